@@ -0,0 +1,46 @@
+package com.trading.trading_order_processor;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/auction")
+public class AuctionController {
+
+    private final OrderPublisher orderPublisher;
+
+    public AuctionController(OrderPublisher orderPublisher) {
+        this.orderPublisher = orderPublisher;
+    }
+
+    @PostMapping("/{symbol}/start")
+    public ResponseEntity<String> startAuction(@PathVariable String symbol) {
+        // Example: POST /auction/AAPL/start
+        // Orders for AAPL now queue without matching until the uncross.
+        // Symbols in trading.auction.periods run this cycle on their own.
+        return publish(symbol, "AUCTION_START");
+    }
+
+    @PostMapping("/{symbol}/uncross")
+    public ResponseEntity<String> uncrossAuction(@PathVariable String symbol) {
+        // Example: POST /auction/AAPL/uncross
+        return publish(symbol, "AUCTION_UNCROSS");
+    }
+
+    private ResponseEntity<String> publish(String symbol, String eventType) {
+        try {
+            orderPublisher.publishControlEvent(symbol, eventType);
+        } catch (IllegalArgumentException e) {
+            // Unknown symbol
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (IllegalStateException e) {
+            // Still warming up, or symbol directory full
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(e.getMessage());
+        }
+        return ResponseEntity.ok(symbol);
+    }
+}
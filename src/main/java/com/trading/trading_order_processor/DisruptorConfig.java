@@ -2,10 +2,13 @@ package com.trading.trading_order_processor;
 
 import com.lmax.disruptor.EventFactory;
 import com.lmax.disruptor.EventHandler;
+import com.lmax.disruptor.ExceptionHandler;
 import com.lmax.disruptor.RingBuffer;
 import com.lmax.disruptor.dsl.Disruptor;
 import com.lmax.disruptor.dsl.ProducerType;
 import com.lmax.disruptor.YieldingWaitStrategy;
+import com.trading.trading_order_processor.domain.InstrumentReference;
+import com.trading.trading_order_processor.domain.OrderCancellation;
 import com.trading.trading_order_processor.domain.OrderEvent;
 import com.trading.trading_order_processor.domain.TradeExecution;
 import jakarta.annotation.PreDestroy;
@@ -23,10 +26,14 @@ public class DisruptorConfig {
 
     final OrderMatchingEngine orderMatchingEngine;
 
+    final ReferenceDataService referenceDataService;
+
     private Disruptor<OrderEvent> disruptor; // Keep reference for shutdown
 
-    public DisruptorConfig(OrderMatchingEngine orderMatchingEngine) {
+    public DisruptorConfig(OrderMatchingEngine orderMatchingEngine,
+                           ReferenceDataService referenceDataService) {
         this.orderMatchingEngine = orderMatchingEngine;
+        this.referenceDataService = referenceDataService;
     }
 
 
@@ -47,6 +54,10 @@ public class DisruptorConfig {
                 new YieldingWaitStrategy() // Wait strategy for consumers
         );
 
+        // One failing event must not stop a handler's processor (the default
+        // FatalExceptionHandler would halt matching for every symbol)
+        disruptor.setDefaultExceptionHandler(new RejectingExceptionHandler());
+
         // STEP 4: Define the processing pipeline
         disruptor.handleEventsWith(orderValidator())     // Stage 1: Validate
                 .then(riskChecker())                    // Stage 2: Risk check
@@ -84,10 +95,29 @@ public class DisruptorConfig {
     @Bean
     public EventHandler<OrderEvent> orderValidator() {
         return (event, sequence, endOfBatch) -> {
+            // Control and tick events carry no order to validate
+            if (!"NEW_ORDER".equals(event.getEventType())) return;
+
+            // One table version per event: risk checks against the same rules
+            InstrumentReference instrument = referenceDataService.getInstrument(event.getSymbolId());
+            event.setInstrument(instrument);
+
             // Validation logic
             if (event.getPrice() <= 0 || event.getQuantity() <= 0) {
                 event.setStatus("REJECTED");
                 event.setReason("Invalid price or quantity");
+            } else if (!instrument.isOnTick(event.getPrice())) {
+                event.setStatus("REJECTED");
+                event.setReason("Price not on tick size " + instrument.getTickSize());
+            } else if (!instrument.isValidLot(event.getQuantity())) {
+                event.setStatus("REJECTED");
+                event.setReason("Quantity not a multiple of lot size " + instrument.getLotSize());
+            } else if (event.getQuantity() > instrument.getMaxOrderQuantity()) {
+                event.setStatus("REJECTED");
+                event.setReason("Max order quantity exceeded");
+            } else if ("GTT".equals(event.getTimeInForce()) && event.getExpireTime() <= 0) {
+                event.setStatus("REJECTED");
+                event.setReason("Missing expire time");
             } else {
                 event.setStatus("VALIDATED");
             }
@@ -100,13 +130,17 @@ public class DisruptorConfig {
         return (event, sequence, endOfBatch) -> {
             if (!"VALIDATED".equals(event.getStatus())) return;
 
-            // Risk checks: position limits, margin, etc.
-            double exposureLimit = 1_000_000.0;
+            // Risk checks: per-instrument limits, price bands, etc.
+            InstrumentReference instrument = event.getInstrument();
             double currentExposure = event.getPrice() * event.getQuantity();
 
-            if (currentExposure > exposureLimit) {
+            if (currentExposure > instrument.getMaxNotional()) {
                 event.setStatus("REJECTED");
                 event.setReason("Exposure limit exceeded");
+            } else if (!instrument.isWithinBand(event.getPrice(),
+                    referenceDataService.getLastTradePrice(event.getSymbolId()))) {
+                event.setStatus("REJECTED");
+                event.setReason("Price outside band");
             } else {
                 event.setStatus("RISK_APPROVED");
             }
@@ -117,19 +151,53 @@ public class DisruptorConfig {
     @Bean
     public EventHandler<OrderEvent> orderMatcher(OrderMatchingEngine matchingEngine) {
         return (event, sequence, endOfBatch) -> {
-            if (!"RISK_APPROVED".equals(event.getStatus())) return;
+            List<TradeExecution> trades;
+
+            if ("TICK".equals(event.getEventType())) {
+                // Advance the expiry wheel, expired orders come back as cancels
+                List<OrderCancellation> cancellations = matchingEngine.expireOrders(event);
+                if (!cancellations.isEmpty()) {
+                    log.info("\n⌛ ORDERS EXPIRED:");
+                    cancellations.forEach(cancel -> System.out.println("  " + cancel));
+                }
+                // Periodic auctions uncross on the same tick clock
+                matchingEngine.runPeriodicAuctions(event.getTickTime()).forEach((symbolId, auctionTrades) -> {
+                    referenceDataService.recordTrade(symbolId,
+                            auctionTrades.get(auctionTrades.size() - 1).getExecutionPrice());
+                    log.info("\n🔔 AUCTION TRADES EXECUTED:");
+                    auctionTrades.forEach(trade -> System.out.println("  " + trade));
+                });
+                // Spill books that have gone idle, on the same tick clock
+                matchingEngine.evictIdleBooks(event.getTickTime());
+                return;
+            } else if ("WARMUP_RESET".equals(event.getEventType())) {
+                matchingEngine.discardShadowBooks(event.getSymbol());
+                referenceDataService.discardLastTrades(event.getSymbol());
+                return;
+            } else if ("AUCTION_START".equals(event.getEventType())) {
+                matchingEngine.startAuction(event);
+                return;
+            } else if ("AUCTION_UNCROSS".equals(event.getEventType())) {
+                // Fill the whole call phase in one pass at the equilibrium price
+                trades = matchingEngine.uncrossAuction(event);
+            } else {
+                if (!"RISK_APPROVED".equals(event.getStatus())) return;
 
-            // Execute matching logic
-            List<TradeExecution> trades = matchingEngine.matchOrder(event);
+                // Execute matching logic
+                trades = matchingEngine.matchOrder(event);
+            }
 
             // Log executions
             if (!trades.isEmpty()) {
+                // Re-anchor the price band on the latest trade
+                referenceDataService.recordTrade(event.getSymbolId(),
+                        trades.get(trades.size() - 1).getExecutionPrice());
                 log.info("\n💰 TRADES EXECUTED:");
                 trades.forEach(trade -> System.out.println("  " + trade));
             }
 
             // Print order book state
-            System.out.println(matchingEngine.getOrderBookSnapshot(event.getSymbol()));
+            System.out.println(matchingEngine.getOrderBookSnapshot(event.getSymbolId()));
         };
     }
 
@@ -148,4 +216,30 @@ public class DisruptorConfig {
             // Send to market data feed, notify trader, update positions, etc.
         };
     }
+
+    /**
+     * Logs the failure, rejects the event so later stages skip it, and lets
+     * the pipeline carry on with the next sequence
+     */
+    private static class RejectingExceptionHandler implements ExceptionHandler<OrderEvent> {
+
+        @Override
+        public void handleEventException(Throwable ex, long sequence, OrderEvent event) {
+            log.error("Error processing event at sequence " + sequence + ": " + ex.getMessage(), ex);
+            if (event != null) {
+                event.setStatus("REJECTED");
+                event.setReason("Processing error");
+            }
+        }
+
+        @Override
+        public void handleOnStartException(Throwable ex) {
+            log.error("Error starting event processor: " + ex.getMessage(), ex);
+        }
+
+        @Override
+        public void handleOnShutdownException(Throwable ex) {
+            log.error("Error stopping event processor: " + ex.getMessage(), ex);
+        }
+    }
 }
@@ -0,0 +1,21 @@
+package com.trading.trading_order_processor;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ExpiryTicker {
+
+    private final OrderPublisher orderPublisher;
+
+    public ExpiryTicker(OrderPublisher orderPublisher) {
+        this.orderPublisher = orderPublisher;
+    }
+
+    // Feeds the wall clock into the ring buffer as TICK events; the matcher
+    // only ever expires orders against the time carried by these events
+    @Scheduled(fixedRateString = "${trading.expiry.tick-interval-ms:100}")
+    public void tick() {
+        orderPublisher.publishTick(System.currentTimeMillis());
+    }
+}
@@ -0,0 +1,26 @@
+package com.trading.trading_order_processor;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/monitoring")
+public class MonitoringController {
+
+    private final OrderMatchingEngine orderMatchingEngine;
+
+    public MonitoringController(OrderMatchingEngine orderMatchingEngine) {
+        this.orderMatchingEngine = orderMatchingEngine;
+    }
+
+    @GetMapping("/books")
+    public ResponseEntity<Map<String, Long>> bookCacheStats() {
+        // Example: GET /monitoring/books
+        // Resident/evicted book counts, hits, misses, reloads and evictions
+        return ResponseEntity.ok(orderMatchingEngine.getBookCacheStats());
+    }
+}
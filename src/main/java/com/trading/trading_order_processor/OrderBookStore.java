@@ -0,0 +1,108 @@
+package com.trading.trading_order_processor;
+
+import com.trading.trading_order_processor.domain.Order;
+import com.trading.trading_order_processor.domain.OrderBook;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.LinkedList;
+import java.util.Queue;
+import java.util.TreeMap;
+
+/**
+ * Local file store for order books evicted from the heap
+ *
+ * One file per symbol in a compact binary layout: resting orders of the
+ * BUY side then the SELL side, best price first and FIFO within a level,
+ * so reloading appends them back in exactly the same priority.
+ */
+public class OrderBookStore {
+
+    private final Path directory;
+
+    public OrderBookStore(Path directory) {
+        this.directory = directory;
+    }
+
+    public void save(OrderBook book) throws IOException {
+        Files.createDirectories(directory);
+        Path tmp = directory.resolve(fileName(book.getSymbol()) + ".tmp");
+
+        try (DataOutputStream out = new DataOutputStream(
+                new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+            out.writeInt(book.getOrderRegistry().size());
+            writeSide(out, book.getBuyOrders());
+            writeSide(out, book.getSellOrders());
+        }
+        Files.move(tmp, path(book.getSymbol()),
+                StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    /**
+     * Read a book back, the file stays until deleted
+     */
+    public OrderBook load(int symbolId, String symbol) throws IOException {
+        Path file = path(symbol);
+        OrderBook book = new OrderBook(symbolId, symbol);
+
+        try (DataInputStream in = new DataInputStream(
+                new BufferedInputStream(Files.newInputStream(file)))) {
+            int count = in.readInt();
+            for (int i = 0; i < count; i++) {
+                Order order = new Order(
+                    in.readUTF(),
+                    symbolId,
+                    in.readBoolean() ? "BUY" : "SELL",
+                    in.readDouble(),
+                    in.readInt(),
+                    in.readUTF(),
+                    in.readLong(),
+                    in.readLong()
+                );
+                order.setStatus(in.readUTF());
+
+                TreeMap<Double, Queue<Order>> side =
+                    "BUY".equals(order.getSide()) ? book.getBuyOrders() : book.getSellOrders();
+                side.computeIfAbsent(order.getPrice(), k -> new LinkedList<>()).add(order);
+                book.getOrderRegistry().put(order.getOrderId(), order);
+            }
+        }
+        return book;
+    }
+
+    public void delete(String symbol) throws IOException {
+        Files.deleteIfExists(path(symbol));
+    }
+
+    private void writeSide(DataOutputStream out, TreeMap<Double, Queue<Order>> side)
+            throws IOException {
+        for (Queue<Order> orders : side.values()) {
+            for (Order order : orders) {
+                out.writeUTF(order.getOrderId());
+                out.writeBoolean("BUY".equals(order.getSide()));
+                out.writeDouble(order.getPrice());
+                out.writeInt(order.getQuantity());
+                out.writeUTF(order.getTraderId() == null ? "" : order.getTraderId());
+                out.writeLong(order.getTimestamp());
+                out.writeLong(order.getExpireTime());
+                out.writeUTF(order.getStatus());
+            }
+        }
+    }
+
+    private Path path(String symbol) {
+        return directory.resolve(fileName(symbol) + ".book");
+    }
+
+    private static String fileName(String symbol) {
+        return URLEncoder.encode(symbol, StandardCharsets.UTF_8);
+    }
+}
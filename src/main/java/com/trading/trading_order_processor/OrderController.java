@@ -1,6 +1,7 @@
 package com.trading.trading_order_processor;
 
 import com.trading.trading_order_processor.domain.OrderRequest;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
@@ -22,14 +23,26 @@ public class OrderController {
         // Data enters here via HTTP POST
         // Example: POST /api/orders/submit
         // Body: {"symbol":"AAPL","side":"BUY","price":150.50,"quantity":100}
+        // Optional: "timeInForce":"GTT","expireTime":<epoch millis> or "timeInForce":"DAY"
 
-        String orderId = orderPublisher.publishOrder(
-                request.getSymbol(),
-                request.getSide(),
-                request.getPrice(),
-                request.getQuantity(),
-                request.getTraderId()
-        );
+        String orderId;
+        try {
+            orderId = orderPublisher.publishOrder(
+                    request.getSymbol(),
+                    request.getSide(),
+                    request.getPrice(),
+                    request.getQuantity(),
+                    request.getTraderId(),
+                    request.getTimeInForce(),
+                    request.getExpireTime()
+            );
+        } catch (IllegalArgumentException e) {
+            // Unknown symbol or expired order rejected at the edge
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (IllegalStateException e) {
+            // Still warming up, or symbol directory full
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(e.getMessage());
+        }
 
         return ResponseEntity.ok(orderId);
     }
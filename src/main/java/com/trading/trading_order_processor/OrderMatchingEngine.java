@@ -2,28 +2,100 @@ package com.trading.trading_order_processor;
 
 import com.trading.trading_order_processor.domain.Order;
 import com.trading.trading_order_processor.domain.OrderBook;
+import com.trading.trading_order_processor.domain.OrderBookLru;
+import com.trading.trading_order_processor.domain.OrderCancellation;
 import com.trading.trading_order_processor.domain.OrderEvent;
+import com.trading.trading_order_processor.domain.TimingWheel;
 import com.trading.trading_order_processor.domain.TradeExecution;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Queue;
 import java.util.TreeMap;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicLong;
 
 @Component
 @Slf4j
 public class OrderMatchingEngine {
     
-    // Maintain separate order book for each symbol
-    private final Map<String, OrderBook> orderBooks = new ConcurrentHashMap<>();
+    // Maintain separate order book for each symbol, indexed by symbol id.
+    // Resident books only, in LRU order. Only modified from the matcher thread.
+    private final SymbolDirectory symbolDirectory;
+    private final OrderBook[] orderBooks;
+    private final OrderBookLru residentBooks = new OrderBookLru();
     private final AtomicLong tradeIdGenerator = new AtomicLong(0);
     
+    // Books with resting orders spilled to local files after going idle
+    private final boolean[] evictedBooks;
+    private int evictedCount;
+    
+    private final OrderBookStore bookStore;
+    private final int maxResidentBooks;
+    private final long idleEvictMillis;
+    private static final long NO_TICK_YET = -1;
+    
+    // Book cache metrics
+    private final AtomicLong bookHits = new AtomicLong();
+    private final AtomicLong bookMisses = new AtomicLong();
+    private final AtomicLong bookReloads = new AtomicLong();
+    private final AtomicLong bookEvictions = new AtomicLong();
+    private final AtomicLong emptyBookDrops = new AtomicLong();
+    
+    // Good-till-time expiry, only touched from the matcher thread. Starts at
+    // the first TICK, so the clock comes only from the event stream.
+    private static final long EXPIRY_TICK_MILLIS = 10;
+    private final TimingWheel<Order> expiryWheel = new TimingWheel<>(EXPIRY_TICK_MILLIS);
+    
+    // An evicted book keeps one timer, by symbol id, at its earliest order
+    // deadline; its orders leave the heap and are expired from the file
+    private final TimingWheel<Integer> spilledExpiryWheel = new TimingWheel<>(EXPIRY_TICK_MILLIS);
+    private final TimingWheel.Timer<Integer>[] spilledExpiries;
+    
+    // Periodic call auctions: each symbol's call phase is uncrossed at every
+    // multiple of its period in TICK time, so a replay uncrosses identically
+    private final int[] periodicSymbols;
+    private final long[] auctionPeriods;
+    private final long[] nextUncrossMillis; // 0 until the first tick opens the call phase
+    
+    @SuppressWarnings("unchecked")
+    public OrderMatchingEngine(SymbolDirectory symbolDirectory,
+                               @Value("${trading.books.max-resident:10000}") int maxResidentBooks,
+                               @Value("${trading.books.idle-evict-ms:60000}") long idleEvictMillis,
+                               @Value("${trading.books.spill-dir:${java.io.tmpdir}/order-books}") Path spillDirectory,
+                               @Value("${trading.auction.periods:}") String auctionPeriods) {
+        this.symbolDirectory = symbolDirectory;
+        this.orderBooks = new OrderBook[symbolDirectory.capacity()];
+        this.evictedBooks = new boolean[symbolDirectory.capacity()];
+        this.spilledExpiries = (TimingWheel.Timer<Integer>[]) new TimingWheel.Timer<?>[symbolDirectory.capacity()];
+        this.maxResidentBooks = maxResidentBooks;
+        this.idleEvictMillis = idleEvictMillis;
+        this.bookStore = new OrderBookStore(spillDirectory);
+        
+        // SYMBOL:periodMs pairs, comma separated
+        String[] entries = auctionPeriods.isBlank() ? new String[0] : auctionPeriods.split(",");
+        this.periodicSymbols = new int[entries.length];
+        this.auctionPeriods = new long[entries.length];
+        this.nextUncrossMillis = new long[entries.length];
+        for (int i = 0; i < entries.length; i++) {
+            String[] fields = entries[i].trim().split(":");
+            if (fields.length != 2 || Long.parseLong(fields[1].trim()) <= 0) {
+                throw new IllegalArgumentException("Bad auction period '" + entries[i].trim() +
+                        "', expected SYMBOL:periodMs");
+            }
+            this.periodicSymbols[i] = symbolDirectory.register(fields[0].trim());
+            this.auctionPeriods[i] = Long.parseLong(fields[1].trim());
+        }
+    }
+    
     /**
      * Main matching logic - called from Disruptor event handler
      * 
@@ -36,27 +108,39 @@ public class OrderMatchingEngine {
         
         List<TradeExecution> executions = new ArrayList<>();
         
-        // Get or create order book for this symbol
-        OrderBook book = orderBooks.computeIfAbsent(
-            event.getSymbol(), 
-            k -> new OrderBook(event.getSymbol())
-        );
+        // Get, reload or create order book for this symbol
+        OrderBook book = getOrLoadBook(event.getSymbolId());
+        if (book == null) {
+            event.setStatus("REJECTED");
+            event.setReason("Order book unavailable");
+            return executions;
+        }
         
         // Create order object
         Order incomingOrder = new Order(
             event.getOrderId(),
-            event.getSymbol(),
+            event.getSymbolId(),
             event.getSide(),
             event.getPrice(),
             event.getQuantity(),
             event.getTraderId(),
-            event.getTimestamp()
+            event.getTimestamp(),
+            event.getExpireTime()
         );
         
         log.info("\n📋 Processing Order: " + incomingOrder.getOrderId() +
                          " | " + incomingOrder.getSide() + " " + 
                          incomingOrder.getQuantity() + " @ " + incomingOrder.getPrice());
         
+        // Call phase: accumulate without matching, the uncross fills in bulk
+        if (book.isInAuction()) {
+            addOrderToBook(book, incomingOrder);
+            event.setStatus("PENDING");
+            log.info("  ⏸ Auction call phase for " + book.getSymbol() +
+                             ", order queued for uncross");
+            return executions;
+        }
+        
         // Match based on side
         if ("BUY".equals(incomingOrder.getSide())) {
             executions = matchBuyOrder(book, incomingOrder);
@@ -71,6 +155,9 @@ public class OrderMatchingEngine {
                              " added to order book");
         }
         
+        // Fully crossed out: nothing left worth keeping on the heap
+        dropIfEmpty(book);
+        
         // Update event with execution details
         if (!executions.isEmpty()) {
             event.setStatus("MATCHED");
@@ -143,7 +230,7 @@ public class OrderMatchingEngine {
                 "TRD-" + tradeIdGenerator.incrementAndGet(),
                 buyOrder.getOrderId(),
                 sellOrder.getOrderId(),
-                buyOrder.getSymbol(),
+                book.getSymbol(),
                 executionPrice,
                 tradeQty,
                 buyOrder.getTraderId(),
@@ -168,6 +255,7 @@ public class OrderMatchingEngine {
             if (sellOrder.getQuantity() == 0) {
                 sellOrder.setStatus("FILLED");
                 ordersAtPrice.poll(); // Remove from queue
+                cancelExpiry(sellOrder);
                 book.getOrderRegistry().remove(sellOrder.getOrderId());
                 log.info("    Sell order FULLY FILLED (removed from book)");
             } else {
@@ -239,7 +327,7 @@ public class OrderMatchingEngine {
                 "TRD-" + tradeIdGenerator.incrementAndGet(),
                 buyOrder.getOrderId(),
                 sellOrder.getOrderId(),
-                sellOrder.getSymbol(),
+                book.getSymbol(),
                 executionPrice,
                 tradeQty,
                 buyOrder.getTraderId(),
@@ -263,6 +351,7 @@ public class OrderMatchingEngine {
             if (buyOrder.getQuantity() == 0) {
                 buyOrder.setStatus("FILLED");
                 ordersAtPrice.poll();
+                cancelExpiry(buyOrder);
                 book.getOrderRegistry().remove(buyOrder.getOrderId());
                 log.info("    Buy order FULLY FILLED (removed from book)");
             } else {
@@ -299,17 +388,548 @@ public class OrderMatchingEngine {
         
         // Register order for lookups
         book.getOrderRegistry().put(order.getOrderId(), order);
+        
+        // Good-till-time: expire through the wheel instead of scanning the book
+        if (order.getExpireTime() > 0) {
+            order.setExpiryTimer(expiryWheel.schedule(order.getExpireTime(), order));
+        }
 
         log.info("  📚 Order added to book: " + order.getOrderId() +
                          " | " + order.getSide() + " " + order.getQuantity() + 
                          " @ " + order.getPrice());
     }
     
+    /**
+     * STEP 4: Enter the call phase of a periodic auction for a symbol
+     * 
+     * Orders for the symbol rest in the book without matching until
+     * uncrossAuction is called. Other symbols keep matching continuously.
+     */
+    public void startAuction(OrderEvent event) {
+        if (!enterCallPhase(event.getSymbolId())) {
+            event.setStatus("REJECTED");
+            event.setReason("Order book unavailable");
+        }
+    }
+    
+    private boolean enterCallPhase(int symbolId) {
+        OrderBook book = getOrLoadBook(symbolId);
+        if (book == null) return false;
+        book.setInAuction(true);
+        log.info("🔔 Auction call phase started for " + book.getSymbol());
+        return true;
+    }
+    
+    /**
+     * STEP 5: Uncross the auction and resume continuous matching
+     * 
+     * Logic:
+     * - One ascending pass over the price levels of both sides, keeping
+     *   cumulative SELL supply (price <= p) and BUY demand (price >= p)
+     * - Equilibrium price: maximum executable volume, then minimum
+     *   imbalance, then the higher price when BUY demand is in surplus
+     * - Fill that volume in bulk at the equilibrium price, best price
+     *   first and FIFO within a level
+     */
+    public List<TradeExecution> uncrossAuction(OrderEvent event) {
+        
+        OrderBook book = orderBooks[event.getSymbolId()];
+        if (book == null || !book.isInAuction()) {
+            event.setStatus("REJECTED");
+            event.setReason("No auction in progress");
+            return new ArrayList<>();
+        }
+        
+        List<TradeExecution> executions = uncross(book);
+        if (!executions.isEmpty()) {
+            event.setStatus("MATCHED");
+            event.setExecutionPrice(executions.get(0).getExecutionPrice());
+        } else {
+            event.setStatus("PENDING");
+        }
+        return executions;
+    }
+    
+    private List<TradeExecution> uncross(OrderBook book) {
+        
+        List<TradeExecution> executions = new ArrayList<>();
+        book.setInAuction(false);
+        
+        TreeMap<Double, Queue<Order>> buySide = book.getBuyOrders();
+        TreeMap<Double, Queue<Order>> sellSide = book.getSellOrders();
+        
+        // Nothing to do unless the book is crossed
+        if (buySide.isEmpty() || sellSide.isEmpty()
+                || buySide.firstKey() < sellSide.firstKey()) {
+            log.info("🔔 Auction uncross for " + book.getSymbol() + ": book not crossed");
+            dropIfEmpty(book);
+            return executions;
+        }
+        
+        long totalDemand = 0;
+        for (Queue<Order> orders : buySide.values()) {
+            totalDemand += levelQuantity(orders);
+        }
+        
+        // Merge both sides in ascending price order
+        Iterator<Map.Entry<Double, Queue<Order>>> buyLevels =
+            buySide.descendingMap().entrySet().iterator();
+        Iterator<Map.Entry<Double, Queue<Order>>> sellLevels =
+            sellSide.entrySet().iterator();
+        Map.Entry<Double, Queue<Order>> buyLevel = buyLevels.next();
+        Map.Entry<Double, Queue<Order>> sellLevel = sellLevels.next();
+        
+        long demandBelow = 0; // BUY quantity priced strictly below p
+        long supply = 0;      // SELL quantity priced at or below p
+        double equilibriumPrice = 0;
+        long maxVolume = 0;
+        long minImbalance = Long.MAX_VALUE;
+        
+        while (buyLevel != null || sellLevel != null) {
+            double price = buyLevel == null ? sellLevel.getKey()
+                : sellLevel == null ? buyLevel.getKey()
+                : Math.min(buyLevel.getKey(), sellLevel.getKey());
+            
+            long buyAtPrice = 0;
+            if (buyLevel != null && buyLevel.getKey() == price) {
+                buyAtPrice = levelQuantity(buyLevel.getValue());
+                buyLevel = buyLevels.hasNext() ? buyLevels.next() : null;
+            }
+            if (sellLevel != null && sellLevel.getKey() == price) {
+                supply += levelQuantity(sellLevel.getValue());
+                sellLevel = sellLevels.hasNext() ? sellLevels.next() : null;
+            }
+            
+            long demand = totalDemand - demandBelow;
+            long volume = Math.min(demand, supply);
+            long imbalance = Math.abs(demand - supply);
+            if (volume > maxVolume
+                    || (volume == maxVolume && volume > 0 && imbalance < minImbalance)
+                    || (volume == maxVolume && volume > 0 && imbalance == minImbalance
+                        && demand > supply)) {
+                maxVolume = volume;
+                minImbalance = imbalance;
+                equilibriumPrice = price;
+            }
+            demandBelow += buyAtPrice;
+        }
+        
+        log.info("🔔 Auction uncross for " + book.getSymbol() + ": " + maxVolume +
+                         " @ " + equilibriumPrice + " (imbalance " + minImbalance + ")");
+        
+        // Fill in bulk at the equilibrium price
+        long remaining = maxVolume;
+        while (remaining > 0) {
+            Map.Entry<Double, Queue<Order>> bestBuy = buySide.firstEntry();
+            Map.Entry<Double, Queue<Order>> bestSell = sellSide.firstEntry();
+            Order buyOrder = bestBuy.getValue().peek();
+            Order sellOrder = bestSell.getValue().peek();
+            
+            int tradeQty = (int) Math.min(remaining,
+                Math.min(buyOrder.getQuantity(), sellOrder.getQuantity()));
+            
+            executions.add(new TradeExecution(
+                "TRD-" + tradeIdGenerator.incrementAndGet(),
+                buyOrder.getOrderId(),
+                sellOrder.getOrderId(),
+                book.getSymbol(),
+                equilibriumPrice,
+                tradeQty,
+                buyOrder.getTraderId(),
+                sellOrder.getTraderId()
+            ));
+            remaining -= tradeQty;
+            
+            fillResting(book, buySide, bestBuy, buyOrder, tradeQty);
+            fillResting(book, sellSide, bestSell, sellOrder, tradeQty);
+        }
+        
+        dropIfEmpty(book);
+        return executions;
+    }
+    
+    /**
+     * Run periodic call auctions on the tick clock
+     * 
+     * The first tick opens each configured symbol's call phase; every later
+     * tick past a multiple of its period uncrosses the book and reopens the
+     * call phase straight away. Returns each uncross's trades by symbol id.
+     */
+    public Map<Integer, List<TradeExecution>> runPeriodicAuctions(long nowMillis) {
+        Map<Integer, List<TradeExecution>> tradesBySymbol = new LinkedHashMap<>();
+        for (int i = 0; i < periodicSymbols.length; i++) {
+            if (nextUncrossMillis[i] != 0 && nowMillis < nextUncrossMillis[i]) continue;
+            
+            int symbolId = periodicSymbols[i];
+            OrderBook book = orderBooks[symbolId];
+            if (nextUncrossMillis[i] != 0 && book != null && book.isInAuction()) {
+                List<TradeExecution> trades = uncross(book);
+                if (!trades.isEmpty()) tradesBySymbol.put(symbolId, trades);
+            }
+            enterCallPhase(symbolId);
+            nextUncrossMillis[i] = (nowMillis / auctionPeriods[i] + 1) * auctionPeriods[i];
+        }
+        return tradesBySymbol;
+    }
+    
+    private static long levelQuantity(Queue<Order> orders) {
+        long total = 0;
+        for (Order order : orders) {
+            total += order.getQuantity();
+        }
+        return total;
+    }
+    
+    /**
+     * Reduce a resting order by an auction fill, removing it and its
+     * price level once empty
+     */
+    private void fillResting(OrderBook book, TreeMap<Double, Queue<Order>> side,
+                             Map.Entry<Double, Queue<Order>> level, Order order, int tradeQty) {
+        order.setQuantity(order.getQuantity() - tradeQty);
+        if (order.getQuantity() == 0) {
+            order.setStatus("FILLED");
+            level.getValue().poll();
+            cancelExpiry(order);
+            book.getOrderRegistry().remove(order.getOrderId());
+            if (level.getValue().isEmpty()) {
+                side.remove(level.getKey());
+            }
+        } else {
+            order.setStatus("PARTIAL");
+        }
+    }
+    
+    /**
+     * STEP 6: Expire good-till-time orders up to the tick's time
+     * 
+     * Driven by TICK events on the ring buffer rather than the wall clock,
+     * so the same event stream always expires the same orders.
+     */
+    public List<OrderCancellation> expireOrders(OrderEvent tick) {
+        List<OrderCancellation> cancellations = new ArrayList<>();
+        expiryWheel.advanceTo(tick.getTickTime(),
+            order -> cancellations.add(removeExpiredOrder(order)));
+        spilledExpiryWheel.advanceTo(tick.getTickTime(),
+            symbolId -> expireSpilledOrders(symbolId, cancellations));
+        
+        if (!cancellations.isEmpty()) {
+            tick.setStatus("CANCELLED");
+        }
+        return cancellations;
+    }
+    
+    private OrderCancellation removeExpiredOrder(Order order) {
+        OrderBook book = orderBooks[order.getSymbolId()];
+        TreeMap<Double, Queue<Order>> side =
+            "BUY".equals(order.getSide()) ? book.getBuyOrders() : book.getSellOrders();
+        
+        Queue<Order> ordersAtPrice = side.get(order.getPrice());
+        ordersAtPrice.remove(order);
+        if (ordersAtPrice.isEmpty()) {
+            side.remove(order.getPrice());
+        }
+        book.getOrderRegistry().remove(order.getOrderId());
+        order.setExpiryTimer(null);
+        order.setStatus("CANCELLED");
+        dropIfEmpty(book);
+        return expiredCancellation(order, book.getSymbol());
+    }
+    
+    /**
+     * An evicted book's earliest deadline has passed: expire its due orders
+     * from the file, then write back the rest or drop the book once empty
+     */
+    private void expireSpilledOrders(int symbolId, List<OrderCancellation> cancellations) {
+        spilledExpiries[symbolId] = null;
+        String symbol = symbolDirectory.symbolOf(symbolId);
+        OrderBook book;
+        try {
+            book = bookStore.load(symbolId, symbol);
+        } catch (IOException e) {
+            // Left on disk; the reload drops anything past its deadline
+            log.error("Failed to expire orders of evicted book " + symbol + ": " + e);
+            return;
+        }
+        
+        for (Order order : removeExpired(book, spilledExpiryWheel.getCurrentTimeMillis())) {
+            order.setStatus("CANCELLED");
+            cancellations.add(expiredCancellation(order, symbol));
+        }
+        
+        if (book.getOrderRegistry().isEmpty()) {
+            deleteSpilledBook(symbol);
+            evictedBooks[symbolId] = false;
+            evictedCount--;
+            return;
+        }
+        try {
+            bookStore.save(book);
+        } catch (IOException e) {
+            log.error("Failed to rewrite evicted order book " + symbol + ": " + e.getMessage());
+        }
+        scheduleSpilledExpiry(book);
+    }
+    
+    /**
+     * Remove orders with a deadline at or before nowMillis, in book priority order
+     */
+    private static List<Order> removeExpired(OrderBook book, long nowMillis) {
+        List<Order> expired = new ArrayList<>();
+        removeExpired(book, book.getBuyOrders(), nowMillis, expired);
+        removeExpired(book, book.getSellOrders(), nowMillis, expired);
+        return expired;
+    }
+    
+    private static void removeExpired(OrderBook book, TreeMap<Double, Queue<Order>> side,
+                                      long nowMillis, List<Order> expired) {
+        Iterator<Queue<Order>> levels = side.values().iterator();
+        while (levels.hasNext()) {
+            Queue<Order> ordersAtPrice = levels.next();
+            ordersAtPrice.removeIf(order -> {
+                if (order.getExpireTime() <= 0 || order.getExpireTime() > nowMillis) return false;
+                book.getOrderRegistry().remove(order.getOrderId());
+                expired.add(order);
+                return true;
+            });
+            if (ordersAtPrice.isEmpty()) {
+                levels.remove();
+            }
+        }
+    }
+    
+    private void scheduleSpilledExpiry(OrderBook book) {
+        long earliest = Long.MAX_VALUE;
+        for (Order order : book.getOrderRegistry().values()) {
+            if (order.getExpireTime() > 0) {
+                earliest = Math.min(earliest, order.getExpireTime());
+            }
+        }
+        if (earliest != Long.MAX_VALUE) {
+            spilledExpiries[book.getSymbolId()] =
+                spilledExpiryWheel.schedule(earliest, book.getSymbolId());
+        }
+    }
+    
+    private void cancelSpilledExpiry(int symbolId) {
+        if (spilledExpiries[symbolId] != null) {
+            spilledExpiryWheel.cancel(spilledExpiries[symbolId]);
+            spilledExpiries[symbolId] = null;
+        }
+    }
+    
+    private OrderCancellation expiredCancellation(Order order, String symbol) {
+        log.info("  ⌛ Order expired: " + order.getOrderId() +
+                         " | " + order.getSide() + " " + order.getQuantity() +
+                         " @ " + order.getPrice());
+        
+        return new OrderCancellation(
+            order.getOrderId(),
+            symbol,
+            order.getSide(),
+            order.getPrice(),
+            order.getQuantity(),
+            order.getTraderId(),
+            "Expired"
+        );
+    }
+    
+    private void cancelExpiry(Order order) {
+        if (order.getExpiryTimer() != null) {
+            expiryWheel.cancel(order.getExpiryTimer());
+            order.setExpiryTimer(null);
+        }
+    }
+    
+    /**
+     * Drop the shadow books left behind by start-up warm-up and restart
+     * trade ids, so real trading starts from a clean engine state
+     */
+    public void discardShadowBooks(String symbolPrefix) {
+        for (int symbolId = 0; symbolId < symbolDirectory.size(); symbolId++) {
+            String symbol = symbolDirectory.symbolOf(symbolId);
+            if (symbol == null || !symbol.startsWith(symbolPrefix)) continue;
+            
+            if (orderBooks[symbolId] != null) {
+                orderBooks[symbolId].getOrderRegistry().values().forEach(this::cancelExpiry);
+                removeResident(orderBooks[symbolId]);
+            }
+            if (evictedBooks[symbolId]) {
+                evictedBooks[symbolId] = false;
+                evictedCount--;
+                deleteSpilledBook(symbol);
+                cancelSpilledExpiry(symbolId);
+            }
+        }
+        tradeIdGenerator.set(0);
+        log.info("Discarded warm-up books with prefix " + symbolPrefix);
+    }
+    
+    /**
+     * STEP 7: Evict books idle for longer than the threshold
+     * 
+     * Called on TICK events. Walks books from least recently used and stops
+     * at the first one still active, so a sweep only touches what it evicts.
+     */
+    public void evictIdleBooks(long nowMillis) {
+        OrderBook book = residentBooks.first();
+        while (book != null) {
+            OrderBook next = residentBooks.next(book);
+            if (book.getLastActivityMillis() == NO_TICK_YET) {
+                // Touched before the first tick: idle from now on
+                book.setLastActivityMillis(nowMillis);
+                book = next;
+                continue;
+            }
+            if (nowMillis - book.getLastActivityMillis() < idleEvictMillis) break;
+            if (!book.isInAuction() && evict(book)) removeResident(book);
+            book = next;
+        }
+    }
+    
+    /**
+     * Resident lookup first, then reload from the book store, then create.
+     * Returns null if an evicted book cannot be read back; it stays on disk.
+     */
+    private OrderBook getOrLoadBook(int symbolId) {
+        OrderBook book = orderBooks[symbolId];
+        if (book != null) {
+            bookHits.incrementAndGet();
+            residentBooks.touch(book);
+        } else {
+            bookMisses.incrementAndGet();
+            String symbol = symbolDirectory.symbolOf(symbolId);
+            if (evictedBooks[symbolId]) {
+                book = reloadBook(symbolId, symbol);
+                if (book == null) return null;
+                evictedBooks[symbolId] = false;
+                evictedCount--;
+            } else {
+                book = new OrderBook(symbolId, symbol);
+            }
+            orderBooks[symbolId] = book;
+            residentBooks.addLast(book);
+            enforceResidentCap(book);
+        }
+        book.setLastActivityMillis(
+            expiryWheel.isStarted() ? expiryWheel.getCurrentTimeMillis() : NO_TICK_YET);
+        return book;
+    }
+    
+    private OrderBook reloadBook(int symbolId, String symbol) {
+        OrderBook book;
+        try {
+            book = bookStore.load(symbolId, symbol);
+        } catch (IOException e) {
+            log.error("Failed to reload order book " + symbol + ": " + e);
+            return null;
+        }
+        deleteSpilledBook(symbol);
+        cancelSpilledExpiry(symbolId);
+        
+        // Due orders were expired from the file on time; anything still past
+        // its deadline is left over from a failed rewrite and must not trade
+        if (expiryWheel.isStarted()) {
+            for (Order order : removeExpired(book, expiryWheel.getCurrentTimeMillis())) {
+                log.info("  ⌛ Order expired on disk: " + order.getOrderId());
+            }
+        }
+        for (Order order : book.getOrderRegistry().values()) {
+            if (order.getExpireTime() > 0) {
+                order.setExpiryTimer(expiryWheel.schedule(order.getExpireTime(), order));
+            }
+        }
+        bookReloads.incrementAndGet();
+        log.info("📂 Order book reloaded: " + symbol + " (" +
+                         book.getOrderRegistry().size() + " orders)");
+        return book;
+    }
+    
+    // Over the cap, evict least recently used books that are not mid-auction
+    private void enforceResidentCap(OrderBook incoming) {
+        OrderBook book = residentBooks.first();
+        while (residentBooks.size() > maxResidentBooks && book != null) {
+            OrderBook next = residentBooks.next(book);
+            if (book != incoming && !book.isInAuction() && evict(book)) removeResident(book);
+            book = next;
+        }
+    }
+    
+    /**
+     * Spill a book with resting orders to the book store, the caller removes
+     * it from the resident map. Returns false if the book must stay resident.
+     */
+    private boolean evict(OrderBook book) {
+        if (book.getOrderRegistry().isEmpty()) {
+            emptyBookDrops.incrementAndGet();
+            return true;
+        }
+        try {
+            bookStore.save(book);
+        } catch (IOException e) {
+            log.error("Failed to evict order book " + book.getSymbol() + ": " + e.getMessage());
+            return false;
+        }
+        // Per-order timers would pin the orders on the heap, keep one per book
+        book.getOrderRegistry().values().forEach(this::cancelExpiry);
+        scheduleSpilledExpiry(book);
+        evictedBooks[book.getSymbolId()] = true;
+        evictedCount++;
+        bookEvictions.incrementAndGet();
+        log.info("💾 Order book evicted: " + book.getSymbol() + " (" +
+                         book.getOrderRegistry().size() + " orders)");
+        return true;
+    }
+    
+    private void dropIfEmpty(OrderBook book) {
+        if (book.getOrderRegistry().isEmpty() && !book.isInAuction()) {
+            removeResident(book);
+            emptyBookDrops.incrementAndGet();
+        }
+    }
+    
+    private void removeResident(OrderBook book) {
+        orderBooks[book.getSymbolId()] = null;
+        residentBooks.remove(book);
+    }
+    
+    private void deleteSpilledBook(String symbol) {
+        try {
+            bookStore.delete(symbol);
+        } catch (IOException e) {
+            log.error("Failed to delete evicted order book " + symbol + ": " + e.getMessage());
+        }
+    }
+    
+    /**
+     * Trade ids issued since start-up or the last warm-up reset
+     */
+    public long getTradeCount() {
+        return tradeIdGenerator.get();
+    }
+    
+    /**
+     * Book cache metrics (for monitoring)
+     */
+    public Map<String, Long> getBookCacheStats() {
+        Map<String, Long> stats = new LinkedHashMap<>();
+        stats.put("resident", (long) residentBooks.size());
+        stats.put("evicted", (long) evictedCount);
+        stats.put("maxResident", (long) maxResidentBooks);
+        stats.put("hits", bookHits.get());
+        stats.put("misses", bookMisses.get());
+        stats.put("reloads", bookReloads.get());
+        stats.put("evictions", bookEvictions.get());
+        stats.put("emptyDrops", emptyBookDrops.get());
+        return stats;
+    }
+    
     /**
      * Get current state of order book (for monitoring/debugging)
      */
-    public String getOrderBookSnapshot(String symbol) {
-        OrderBook book = orderBooks.get(symbol);
+    public String getOrderBookSnapshot(int symbolId) {
+        OrderBook book = orderBooks[symbolId];
+        String symbol = symbolDirectory.symbolOf(symbolId);
         if (book == null) return "No order book for " + symbol;
         
         StringBuilder sb = new StringBuilder();
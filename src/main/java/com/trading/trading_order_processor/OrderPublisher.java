@@ -3,8 +3,15 @@ package com.trading.trading_order_processor;
 import com.lmax.disruptor.RingBuffer;
 import com.trading.trading_order_processor.domain.OrderEvent;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
 import java.util.UUID;
 
 @Component
@@ -13,15 +20,53 @@ public class OrderPublisher {
 
     private final RingBuffer<OrderEvent> ringBuffer;
 
-    public OrderPublisher(RingBuffer<OrderEvent> ringBuffer) {
+    private final SymbolDirectory symbolDirectory;
+
+    // DAY orders expire at this local time of the trading session
+    private final LocalTime sessionClose;
+    private final ZoneId sessionZone;
+
+    // Readiness flips to ACCEPTING_TRAFFIC only after warm-up; until then only
+    // the warm-up runner's own thread gets through, so no client trade
+    // precedes the trade id reset
+    private volatile boolean acceptingTraffic;
+    private final ThreadLocal<Boolean> warmupThread = ThreadLocal.withInitial(() -> false);
+
+    public OrderPublisher(RingBuffer<OrderEvent> ringBuffer,
+                          SymbolDirectory symbolDirectory,
+                          @Value("${trading.session.close:16:00}") String sessionClose,
+                          @Value("${trading.session.zone:America/New_York}") String sessionZone) {
         this.ringBuffer = ringBuffer;
+        this.symbolDirectory = symbolDirectory;
+        this.sessionClose = LocalTime.parse(sessionClose);
+        this.sessionZone = ZoneId.of(sessionZone);
     }
 
     public String publishOrder(String symbol, String side, double price,
-                               int quantity, String traderId) {
+                               int quantity, String traderId,
+                               String timeInForce, long expireTime) {
+
+        checkAcceptingTraffic();
+
+        // Resolve the symbol id here, off the matcher thread. Unknown symbols
+        // are registered or rejected before a ring buffer slot is claimed.
+        int symbolId = symbolDirectory.resolve(symbol);
 
         String orderId = UUID.randomUUID().toString();
 
+        // Resolve the expiry here, off the matcher thread
+        if ("DAY".equals(timeInForce)) {
+            expireTime = LocalDate.now(sessionZone).atTime(sessionClose)
+                    .atZone(sessionZone).toInstant().toEpochMilli();
+        } else if (!"GTT".equals(timeInForce)) {
+            expireTime = 0; // GTC
+        }
+
+        // Wall clock belongs at the edge; downstream, time comes from TICK events
+        if (expireTime > 0 && expireTime <= System.currentTimeMillis()) {
+            throw new IllegalArgumentException("Order already expired");
+        }
+
         // Get next available slot in ring buffer (this is the critical step!)
         long sequence = ringBuffer.next();
 
@@ -32,11 +77,14 @@ public class OrderPublisher {
             // Populate the event with order data
             event.setOrderId(orderId);
             event.setSymbol(symbol);
+            event.setSymbolId(symbolId);
             event.setSide(side);
             event.setPrice(price);
             event.setQuantity(quantity);
             event.setTraderId(traderId);
             event.setTimestamp(System.nanoTime());
+            event.setTimeInForce(timeInForce);
+            event.setExpireTime(expireTime);
             event.setEventType("NEW_ORDER");
 
 
@@ -49,4 +97,89 @@ public class OrderPublisher {
         return orderId;
     }
 
+    /**
+     * Publish a control event (AUCTION_START, AUCTION_UNCROSS, WARMUP_RESET).
+     * It travels through the same ring buffer as orders so the state change
+     * is applied in sequence on the matcher thread.
+     */
+    public void publishControlEvent(String symbol, String eventType) {
+
+        checkAcceptingTraffic();
+
+        // Auction events target one instrument, resolved like an order's symbol
+        int symbolId = eventType.startsWith("AUCTION_") ? symbolDirectory.resolve(symbol) : -1;
+
+        long sequence = ringBuffer.next();
+
+        try {
+            OrderEvent event = ringBuffer.get(sequence);
+
+            // Clear order fields left over from the previous use of this slot
+            event.setOrderId(null);
+            event.setSymbol(symbol);
+            event.setSymbolId(symbolId);
+            event.setSide(null);
+            event.setPrice(0);
+            event.setQuantity(0);
+            event.setTraderId(null);
+            event.setTimestamp(System.nanoTime());
+            event.setTimeInForce(null);
+            event.setExpireTime(0);
+            event.setEventType(eventType);
+            event.setStatus(null);
+            event.setReason(null);
+            event.setExecutionPrice(0);
+
+        } finally {
+            ringBuffer.publish(sequence);
+            log.info("Published " + eventType + " for " + symbol + " at sequence: " + sequence);
+        }
+    }
+
+    /**
+     * Publish a clock tick that advances the matcher's expiry wheel to nowMillis.
+     * Expiry follows the ticks in the event stream, not the matcher's own clock.
+     */
+    public void publishTick(long nowMillis) {
+
+        long sequence = ringBuffer.next();
+
+        try {
+            OrderEvent event = ringBuffer.get(sequence);
+            event.setOrderId(null);
+            event.setSymbol(null);
+            event.setSymbolId(-1);
+            event.setTimestamp(System.nanoTime());
+            event.setTickTime(nowMillis);
+            event.setEventType("TICK");
+            event.setStatus(null);
+            event.setReason(null);
+
+        } finally {
+            ringBuffer.publish(sequence);
+        }
+    }
+
+    @EventListener
+    public void onReadinessChange(AvailabilityChangeEvent<ReadinessState> event) {
+        acceptingTraffic = event.getState() == ReadinessState.ACCEPTING_TRAFFIC;
+    }
+
+    /**
+     * Let the calling thread publish before readiness, for the warm-up runner
+     */
+    void beginWarmup() {
+        warmupThread.set(true);
+    }
+
+    void endWarmup() {
+        warmupThread.remove();
+    }
+
+    private void checkAcceptingTraffic() {
+        if (!acceptingTraffic && !warmupThread.get()) {
+            throw new IllegalStateException("Service warming up");
+        }
+    }
+
 }
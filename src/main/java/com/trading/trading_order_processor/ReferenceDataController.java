@@ -0,0 +1,43 @@
+package com.trading.trading_order_processor;
+
+import com.trading.trading_order_processor.domain.InstrumentReference;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+
+@RestController
+@RequestMapping("/reference-data")
+public class ReferenceDataController {
+
+    private final ReferenceDataService referenceDataService;
+
+    public ReferenceDataController(ReferenceDataService referenceDataService) {
+        this.referenceDataService = referenceDataService;
+    }
+
+    @GetMapping("/{symbol}")
+    public ResponseEntity<InstrumentReference> getInstrument(@PathVariable String symbol) {
+        return ResponseEntity.ok(referenceDataService.getInstrument(symbol));
+    }
+
+    @PostMapping("/reload")
+    public ResponseEntity<String> reload() throws IOException {
+        // Example: POST /reference-data/reload
+        // Swaps in a freshly loaded table without pausing the pipeline
+        try {
+            int instruments = referenceDataService.reload();
+            return ResponseEntity.ok("Loaded " + instruments + " instruments");
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (IllegalStateException e) {
+            // Symbol directory full, the current table stays in place
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(e.getMessage());
+        }
+    }
+}
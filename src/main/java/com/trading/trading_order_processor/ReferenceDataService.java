@@ -0,0 +1,95 @@
+package com.trading.trading_order_processor;
+
+import com.trading.trading_order_processor.domain.InstrumentReference;
+import com.trading.trading_order_processor.domain.ReferenceDataTable;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Instrument reference data for the validation and risk stages
+ *
+ * The table is loaded once at startup and replaced wholesale on reload
+ * (copy-on-write): the validator reads the volatile reference once per
+ * event and carries the instrument to the risk stage, so an event never
+ * mixes two versions, and nothing on the hot path takes a lock.
+ */
+@Component
+@Slf4j
+public class ReferenceDataService {
+
+    private final ResourceLoader resourceLoader;
+    private final SymbolDirectory symbolDirectory;
+    private final String location;
+
+    private volatile ReferenceDataTable table;
+
+    // Price band anchors by symbol id as raw double bits, written by the
+    // matcher thread and read by the risk thread
+    private final AtomicLongArray lastTradePrices;
+
+    public ReferenceDataService(ResourceLoader resourceLoader,
+                                SymbolDirectory symbolDirectory,
+                                @Value("${trading.reference-data.file:classpath:instruments.csv}") String location)
+            throws IOException {
+        this.resourceLoader = resourceLoader;
+        this.symbolDirectory = symbolDirectory;
+        this.location = location;
+        this.lastTradePrices = new AtomicLongArray(symbolDirectory.capacity());
+        this.table = load();
+        log.info("Loaded reference data for " + table.size() + " instruments from " + location);
+    }
+
+    public InstrumentReference getInstrument(int symbolId) {
+        return table.get(symbolId);
+    }
+
+    public InstrumentReference getInstrument(String symbol) {
+        return table.get(symbol);
+    }
+
+    /**
+     * Re-read the file and publish the new table in one reference swap.
+     * On a bad file the current table stays in place.
+     */
+    public synchronized int reload() throws IOException {
+        ReferenceDataTable reloaded = load();
+        table = reloaded;
+        log.info("Reloaded reference data for " + reloaded.size() + " instruments from " + location);
+        return reloaded.size();
+    }
+
+    public void recordTrade(int symbolId, double price) {
+        lastTradePrices.setRelease(symbolId, Double.doubleToRawLongBits(price));
+    }
+
+    public double getLastTradePrice(int symbolId) {
+        return Double.longBitsToDouble(lastTradePrices.getAcquire(symbolId));
+    }
+
+    public void discardLastTrades(String symbolPrefix) {
+        for (int symbolId = 0; symbolId < symbolDirectory.size(); symbolId++) {
+            String symbol = symbolDirectory.symbolOf(symbolId);
+            if (symbol != null && symbol.startsWith(symbolPrefix)) {
+                lastTradePrices.setRelease(symbolId, Double.doubleToRawLongBits(0));
+            }
+        }
+    }
+
+    private ReferenceDataTable load() throws IOException {
+        Resource resource = resourceLoader.getResource(location);
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8))) {
+            // Listed symbols are always known to the directory
+            return ReferenceDataTable.parse(reader, symbolDirectory::register);
+        }
+    }
+}
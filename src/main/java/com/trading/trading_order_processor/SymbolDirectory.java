@@ -0,0 +1,109 @@
+package com.trading.trading_order_processor;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Assigns every instrument a dense int id at the edge
+ *
+ * Symbols are resolved once in OrderPublisher, off the matcher thread.
+ * Downstream, books and per-symbol state are plain arrays indexed by the
+ * id, sized by capacity(), so the hot path never hashes a String.
+ * Ids are never reused; a retired symbol keeps its id but is no longer
+ * accepted at the edge.
+ */
+@Component
+public class SymbolDirectory {
+
+    private final Map<String, Integer> ids = new ConcurrentHashMap<>();
+    private final AtomicInteger nextId = new AtomicInteger();
+
+    // Written before the id is handed out, read after it travels the ring buffer
+    private final String[] symbols;
+
+    // Retired during warm-up, before readiness flips to ACCEPTING_TRAFFIC;
+    // client threads see it through OrderPublisher's volatile readiness flag
+    private final boolean[] retired;
+    private final boolean registerUnknown;
+
+    public SymbolDirectory(@Value("${trading.symbols.capacity:65536}") int capacity,
+                           @Value("${trading.symbols.register-unknown:false}") boolean registerUnknown) {
+        this.symbols = new String[capacity];
+        this.retired = new boolean[capacity];
+        this.registerUnknown = registerUnknown;
+    }
+
+    /**
+     * Id for an incoming symbol: registered on first sight, or rejected when
+     * only symbols from reference data are allowed
+     */
+    public int resolve(String symbol) {
+        if (symbol == null || symbol.isEmpty()) {
+            throw new IllegalArgumentException("Missing symbol");
+        }
+        Integer id = ids.get(symbol);
+        if (id != null) {
+            if (retired[id]) {
+                throw new IllegalArgumentException("Unknown symbol " + symbol);
+            }
+            return id;
+        }
+        if (!registerUnknown) {
+            throw new IllegalArgumentException("Unknown symbol " + symbol);
+        }
+        return register(symbol);
+    }
+
+    /**
+     * Id for a symbol, registering it if new
+     */
+    public int register(String symbol) {
+        if (symbol == null || symbol.isEmpty()) {
+            throw new IllegalArgumentException("Missing symbol");
+        }
+        return ids.computeIfAbsent(symbol, s -> {
+            // Only take an id while there is room, a full directory stays full
+            int id = nextId.getAndUpdate(n -> n < symbols.length ? n + 1 : n);
+            if (id >= symbols.length) {
+                throw new IllegalStateException("Symbol directory full (" + symbols.length + ")");
+            }
+            symbols[id] = s;
+            return id;
+        });
+    }
+
+    /**
+     * Stop accepting a registered symbol at the edge, e.g. warm-up shadow symbols
+     */
+    public void retire(String symbol) {
+        int id = idOf(symbol);
+        if (id >= 0) retired[id] = true;
+    }
+
+    /**
+     * Id for a known symbol, -1 if never registered
+     */
+    public int idOf(String symbol) {
+        Integer id = ids.get(symbol);
+        return id != null ? id : -1;
+    }
+
+    /**
+     * Symbol for an id, null if the id is still being registered
+     */
+    public String symbolOf(int symbolId) {
+        return symbols[symbolId];
+    }
+
+    public int size() {
+        return nextId.get();
+    }
+
+    public int capacity() {
+        return symbols.length;
+    }
+}
@@ -2,8 +2,10 @@ package com.trading.trading_order_processor;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling
 public class TradingOrderProcessorApplication {
 
 	public static void main(String[] args) {
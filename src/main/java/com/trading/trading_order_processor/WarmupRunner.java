@@ -0,0 +1,179 @@
+package com.trading.trading_order_processor;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lmax.disruptor.RingBuffer;
+import com.trading.trading_order_processor.domain.OrderEvent;
+import com.trading.trading_order_processor.domain.OrderRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.context.ApplicationContext;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.CompilationMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JIT warm-up before the service reports ready
+ *
+ * Drives synthetic orders through the real path (Jackson deserialization,
+ * controller, publisher, every Disruptor handler) on shadow symbols until
+ * the hot methods have been compiled, then discards the shadow books,
+ * resets trade ids and retires the shadow symbols so clients can never
+ * trade them. Readiness stays REFUSING_TRAFFIC until this completes, and
+ * OrderPublisher refuses client orders until then, so the trade id reset
+ * can never reissue an id already given to a real trade.
+ */
+@Component
+@Slf4j
+public class WarmupRunner implements ApplicationRunner {
+
+    static final String SHADOW_PREFIX = "__WARMUP-";
+
+    private static final int SHADOW_SYMBOLS = 4;
+
+    private static final long DRAIN_TIMEOUT_NANOS = TimeUnit.SECONDS.toNanos(30);
+
+    private final ApplicationContext context;
+    private final OrderController orderController;
+    private final OrderPublisher orderPublisher;
+    private final OrderMatchingEngine orderMatchingEngine;
+    private final SymbolDirectory symbolDirectory;
+    private final RingBuffer<OrderEvent> ringBuffer;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final int orders;
+    private final int batchSize;
+
+    // Trades the shadow books produced, before the trade id reset
+    private volatile long warmupTrades;
+
+    public WarmupRunner(ApplicationContext context,
+                        OrderController orderController,
+                        OrderPublisher orderPublisher,
+                        OrderMatchingEngine orderMatchingEngine,
+                        SymbolDirectory symbolDirectory,
+                        RingBuffer<OrderEvent> ringBuffer,
+                        ObjectMapper objectMapper,
+                        @Value("${trading.warmup.enabled:true}") boolean enabled,
+                        @Value("${trading.warmup.orders:20000}") int orders,
+                        @Value("${trading.warmup.batch-size:1000}") int batchSize) {
+        this.context = context;
+        this.orderController = orderController;
+        this.orderPublisher = orderPublisher;
+        this.orderMatchingEngine = orderMatchingEngine;
+        this.symbolDirectory = symbolDirectory;
+        this.ringBuffer = ringBuffer;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.orders = orders;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        if (!enabled || orders <= 0) return;
+
+        AvailabilityChangeEvent.publish(context, ReadinessState.REFUSING_TRAFFIC);
+
+        // Only this thread's submissions get past the publisher until ready
+        orderPublisher.beginWarmup();
+        try {
+            warmUp();
+        } finally {
+            orderPublisher.endWarmup();
+        }
+
+        AvailabilityChangeEvent.publish(context, ReadinessState.ACCEPTING_TRAFFIC);
+    }
+
+    private void warmUp() throws Exception {
+        // Shadow symbols must be accepted even when unknown symbols are rejected
+        for (int i = 0; i < SHADOW_SYMBOLS; i++) {
+            symbolDirectory.register(SHADOW_PREFIX + i);
+        }
+        log.info("JIT warm-up: driving " + orders + " synthetic orders through the pipeline");
+
+        CompilationMXBean jit = ManagementFactory.getCompilationMXBean();
+        boolean jitTimed = jit != null && jit.isCompilationTimeMonitoringSupported();
+        long jitStartMillis = jitTimed ? jit.getTotalCompilationTime() : 0;
+        long start = System.nanoTime();
+
+        double firstBatchMicros = -1;
+        double lastBatchMicros = -1;
+
+        for (int sent = 0; sent < orders; ) {
+            int batch = Math.min(batchSize, orders - sent);
+            long batchStart = System.nanoTime();
+
+            for (int i = 0; i < batch; i++, sent++) {
+                OrderRequest request = objectMapper.readValue(syntheticOrder(sent), OrderRequest.class);
+                orderController.submitOrder(request);
+            }
+            awaitDrained();
+
+            double perOrderMicros = (System.nanoTime() - batchStart) / 1_000.0 / batch;
+            if (firstBatchMicros < 0) firstBatchMicros = perOrderMicros;
+            lastBatchMicros = perOrderMicros;
+        }
+
+        // Pipeline is drained, so the matcher is not issuing trade ids right now
+        warmupTrades = orderMatchingEngine.getTradeCount();
+
+        // Shadow state is dropped on the matcher thread, in sequence
+        orderPublisher.publishControlEvent(SHADOW_PREFIX, "WARMUP_RESET");
+        awaitDrained();
+        for (int i = 0; i < SHADOW_SYMBOLS; i++) {
+            symbolDirectory.retire(SHADOW_PREFIX + i);
+        }
+
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        log.info(String.format("JIT warm-up complete in %d ms | %d trades | first batch %.1f µs/order" +
+                        " | last batch %.1f µs/order (%.1fx faster)%s",
+                elapsedMillis, warmupTrades, firstBatchMicros, lastBatchMicros,
+                firstBatchMicros / lastBatchMicros,
+                jitTimed ? " | JIT time " + (jit.getTotalCompilationTime() - jitStartMillis) + " ms" : ""));
+    }
+
+    public long getWarmupTrades() {
+        return warmupTrades;
+    }
+
+    /**
+     * Round-robin over the shadow symbols, each seeing alternating BUY/SELL
+     * pairs. BUY prices (100.02-100.04) never sit below SELL prices
+     * (100.00-100.02), so every order crosses whatever rests on the other
+     * side: orders rest, match across levels and partially fill while the
+     * shadow books stay a handful of orders deep.
+     */
+    private String syntheticOrder(int n) {
+        // Side from the round number, not n itself: with an even symbol
+        // count the parity of n would pin each symbol to one side
+        boolean buy = ((n / SHADOW_SYMBOLS) & 1) == 0;
+        String side = buy ? "BUY" : "SELL";
+        double price = (buy ? 100.02 : 100.0) + (n % 3) * 0.01;
+        int quantity = 10 + (n % 7) * 10;
+        return "{\"symbol\":\"" + SHADOW_PREFIX + (n % SHADOW_SYMBOLS) + "\"," +
+                "\"side\":\"" + side + "\",\"price\":" + price + "," +
+                "\"quantity\":" + quantity + ",\"traderId\":\"WARMUP\"}";
+    }
+
+    // Wait until the last handler has consumed everything published so far,
+    // failing start-up rather than hanging if a handler stalls
+    private void awaitDrained() {
+        long published = ringBuffer.getCursor();
+        long deadline = System.nanoTime() + DRAIN_TIMEOUT_NANOS;
+        while (ringBuffer.getMinimumGatingSequence() < published) {
+            if (System.nanoTime() - deadline > 0) {
+                throw new IllegalStateException("JIT warm-up stalled: pipeline at sequence " +
+                        ringBuffer.getMinimumGatingSequence() + " of " + published + " after " +
+                        TimeUnit.NANOSECONDS.toSeconds(DRAIN_TIMEOUT_NANOS) + " s");
+            }
+            Thread.onSpinWait();
+        }
+    }
+}
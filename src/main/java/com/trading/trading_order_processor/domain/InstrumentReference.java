@@ -0,0 +1,55 @@
+package com.trading.trading_order_processor.domain;
+
+// ============================================================================
+// INSTRUMENT REFERENCE - Static trading rules for one symbol
+// ============================================================================
+
+public class InstrumentReference {
+    private final String symbol;
+    private final double tickSize;         // 0 = any price
+    private final int lotSize;
+    private final double referencePrice;   // Band anchor until the first trade, 0 = none
+    private final double priceBandPercent; // 0 = no band
+    private final int maxOrderQuantity;
+    private final double maxNotional;
+    
+    public InstrumentReference(String symbol, double tickSize, int lotSize,
+                               double referencePrice, double priceBandPercent,
+                               int maxOrderQuantity, double maxNotional) {
+        this.symbol = symbol;
+        this.tickSize = tickSize;
+        this.lotSize = lotSize;
+        this.referencePrice = referencePrice;
+        this.priceBandPercent = priceBandPercent;
+        this.maxOrderQuantity = maxOrderQuantity;
+        this.maxNotional = maxNotional;
+    }
+    
+    public boolean isOnTick(double price) {
+        if (tickSize <= 0) return true;
+        double ticks = price / tickSize;
+        return Math.abs(ticks - Math.rint(ticks)) < 1e-6;
+    }
+    
+    public boolean isValidLot(int quantity) {
+        return quantity % lotSize == 0;
+    }
+    
+    /**
+     * Price within priceBandPercent of the anchor (last trade, else reference price)
+     */
+    public boolean isWithinBand(double price, double lastTradePrice) {
+        double anchor = lastTradePrice > 0 ? lastTradePrice : referencePrice;
+        if (priceBandPercent <= 0 || anchor <= 0) return true;
+        return Math.abs(price - anchor) <= anchor * priceBandPercent / 100.0;
+    }
+    
+    // Getters
+    public String getSymbol() { return symbol; }
+    public double getTickSize() { return tickSize; }
+    public int getLotSize() { return lotSize; }
+    public double getReferencePrice() { return referencePrice; }
+    public double getPriceBandPercent() { return priceBandPercent; }
+    public int getMaxOrderQuantity() { return maxOrderQuantity; }
+    public double getMaxNotional() { return maxNotional; }
+}
@@ -4,35 +4,41 @@ package com.trading.trading_order_processor.domain;// ==========================
 
 public class Order {
     private final String orderId;
-    private final String symbol;
+    private final int symbolId;
     private final String side; // BUY or SELL
     private final double price;
     private int quantity;
     private final String traderId;
     private final long timestamp;
+    private final long expireTime; // Epoch millis, 0 = good till cancelled
     private String status; // NEW, PARTIAL, FILLED, CANCELLED
+    private TimingWheel.Timer<Order> expiryTimer; // Pending expiry while resting
     
-    public Order(String orderId, String symbol, String side, double price, 
-                 int quantity, String traderId, long timestamp) {
+    public Order(String orderId, int symbolId, String side, double price, 
+                 int quantity, String traderId, long timestamp, long expireTime) {
         this.orderId = orderId;
-        this.symbol = symbol;
+        this.symbolId = symbolId;
         this.side = side;
         this.price = price;
         this.quantity = quantity;
         this.traderId = traderId;
         this.timestamp = timestamp;
+        this.expireTime = expireTime;
         this.status = "NEW";
     }
     
     // Getters and setters
     public String getOrderId() { return orderId; }
-    public String getSymbol() { return symbol; }
+    public int getSymbolId() { return symbolId; }
     public String getSide() { return side; }
     public double getPrice() { return price; }
     public int getQuantity() { return quantity; }
     public void setQuantity(int quantity) { this.quantity = quantity; }
     public String getTraderId() { return traderId; }
     public long getTimestamp() { return timestamp; }
+    public long getExpireTime() { return expireTime; }
     public String getStatus() { return status; }
     public void setStatus(String status) { this.status = status; }
+    public TimingWheel.Timer<Order> getExpiryTimer() { return expiryTimer; }
+    public void setExpiryTimer(TimingWheel.Timer<Order> expiryTimer) { this.expiryTimer = expiryTimer; }
 }
@@ -12,6 +12,7 @@ import java.util.concurrent.ConcurrentHashMap;
  */
 public class OrderBook {
     
+    private final int symbolId;
     private final String symbol;
     
     // Buy orders: Highest price first (descending order)
@@ -25,10 +26,25 @@ public class OrderBook {
     // Track all orders for cancellation/modification
     private final Map<String, Order> orderRegistry = new ConcurrentHashMap<>();
     
-    public OrderBook(String symbol) {
+    // Call phase of a periodic auction: orders rest without matching until uncross
+    private boolean inAuction;
+    
+    // Tick time of the last order for this symbol, drives idle eviction
+    private long lastActivityMillis;
+    
+    // Links in the resident-book LRU list, maintained by OrderBookLru
+    OrderBook lruPrev;
+    OrderBook lruNext;
+    
+    public OrderBook(int symbolId, String symbol) {
+        this.symbolId = symbolId;
         this.symbol = symbol;
     }
     
+    public int getSymbolId() {
+        return symbolId;
+    }
+    
     public String getSymbol() {
         return symbol;
     }
@@ -44,4 +60,20 @@ public class OrderBook {
     public Map<String, Order> getOrderRegistry() {
         return orderRegistry;
     }
+    
+    public boolean isInAuction() {
+        return inAuction;
+    }
+    
+    public void setInAuction(boolean inAuction) {
+        this.inAuction = inAuction;
+    }
+    
+    public long getLastActivityMillis() {
+        return lastActivityMillis;
+    }
+    
+    public void setLastActivityMillis(long lastActivityMillis) {
+        this.lastActivityMillis = lastActivityMillis;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,63 @@
+package com.trading.trading_order_processor.domain;
+
+/**
+ * Least-recently-used order of resident books
+ * Intrusive doubly linked list through the books themselves: touch, add and
+ * remove are O(1) pointer updates, with no hashing or allocation per event.
+ * Single-threaded, owned by the matcher thread.
+ */
+public class OrderBookLru {
+
+    private OrderBook head; // Least recently used
+    private OrderBook tail; // Most recently used
+    private int size;
+
+    public void addLast(OrderBook book) {
+        book.lruPrev = tail;
+        book.lruNext = null;
+        if (tail == null) {
+            head = book;
+        } else {
+            tail.lruNext = book;
+        }
+        tail = book;
+        size++;
+    }
+
+    public void remove(OrderBook book) {
+        if (book.lruPrev == null) {
+            head = book.lruNext;
+        } else {
+            book.lruPrev.lruNext = book.lruNext;
+        }
+        if (book.lruNext == null) {
+            tail = book.lruPrev;
+        } else {
+            book.lruNext.lruPrev = book.lruPrev;
+        }
+        book.lruPrev = null;
+        book.lruNext = null;
+        size--;
+    }
+
+    /**
+     * Mark a book as most recently used
+     */
+    public void touch(OrderBook book) {
+        if (book == tail) return;
+        remove(book);
+        addLast(book);
+    }
+
+    public OrderBook first() {
+        return head;
+    }
+
+    public OrderBook next(OrderBook book) {
+        return book.lruNext;
+    }
+
+    public int size() {
+        return size;
+    }
+}
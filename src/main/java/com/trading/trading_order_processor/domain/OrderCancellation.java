@@ -0,0 +1,44 @@
+package com.trading.trading_order_processor.domain;
+
+// ============================================================================
+// ORDER CANCELLATION - Resting order removed from the book
+// ============================================================================
+
+public class OrderCancellation {
+    private final String orderId;
+    private final String symbol;
+    private final String side;
+    private final double price;
+    private final int cancelledQuantity;
+    private final String traderId;
+    private final String reason;
+    private final long timestamp;
+    
+    public OrderCancellation(String orderId, String symbol, String side, double price,
+                             int cancelledQuantity, String traderId, String reason) {
+        this.orderId = orderId;
+        this.symbol = symbol;
+        this.side = side;
+        this.price = price;
+        this.cancelledQuantity = cancelledQuantity;
+        this.traderId = traderId;
+        this.reason = reason;
+        this.timestamp = System.nanoTime();
+    }
+    
+    @Override
+    public String toString() {
+        return String.format("CANCEL[%s] %s %s: %d @ %.2f (%s)", 
+            orderId, symbol, side, cancelledQuantity, price, reason);
+    }
+    
+    // Getters
+    public String getOrderId() { return orderId; }
+    public String getSymbol() { return symbol; }
+    public String getSide() { return side; }
+    public double getPrice() { return price; }
+    public int getCancelledQuantity() { return cancelledQuantity; }
+    public String getTraderId() { return traderId; }
+    public String getReason() { return reason; }
+    public long getTimestamp() { return timestamp; }
+}
@@ -5,12 +5,17 @@ import lombok.Data;
 @Data
 public class OrderEvent {
     private String orderId;
-    private String symbol;
+    private String symbol;   // As received, for logs and control events
+    private int symbolId;    // Dense id from SymbolDirectory, used on the hot path
     private String side;
     private double price;
     private int quantity;
     private String traderId;
     private long timestamp;
+    private String timeInForce;
+    private long expireTime; // Epoch millis, 0 = good till cancelled
+    private long tickTime;   // Epoch millis a TICK advances the expiry wheel to
+    private InstrumentReference instrument; // Read once by the validator, reused by risk
     private String eventType;
     private String status;
     private String reason;
@@ -10,5 +10,7 @@ public class OrderRequest {
     private double price;
     private int quantity;
     private String traderId;
+    private String timeInForce; // GTC (default), GTT or DAY
+    private long expireTime;    // Epoch millis, required for GTT
 
 }
@@ -0,0 +1,119 @@
+package com.trading.trading_order_processor.domain;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.ToIntFunction;
+
+/**
+ * Immutable symbol-indexed instrument table
+ * Never modified after construction: a reload builds a whole new table and
+ * swaps the reference, so readers need no locks. The hot path reads it by
+ * dense symbol id with a plain array load.
+ *
+ * CSV layout, one instrument per line, '#' for comments:
+ *   symbol,tickSize,lotSize,referencePrice,priceBandPercent,maxOrderQuantity,maxNotional
+ * A '*' row sets the rules for symbols not listed.
+ */
+public class ReferenceDataTable {
+
+    // Used for unlisted symbols when the file has no '*' row
+    private static final InstrumentReference BUILT_IN_DEFAULT =
+        new InstrumentReference("*", 0, 1, 0, 0, Integer.MAX_VALUE, 1_000_000.0);
+
+    private final Map<String, InstrumentReference> instruments;
+    private final InstrumentReference[] bySymbolId;
+    private final InstrumentReference defaultInstrument;
+
+    private ReferenceDataTable(Map<String, InstrumentReference> instruments,
+                               InstrumentReference[] bySymbolId,
+                               InstrumentReference defaultInstrument) {
+        this.instruments = instruments;
+        this.bySymbolId = bySymbolId;
+        this.defaultInstrument = defaultInstrument;
+    }
+
+    /**
+     * Parse the CSV, assigning each listed symbol its id through symbolIds
+     */
+    public static ReferenceDataTable parse(BufferedReader reader,
+                                           ToIntFunction<String> symbolIds) throws IOException {
+        Map<String, InstrumentReference> instruments = new HashMap<>();
+        InstrumentReference defaultInstrument = BUILT_IN_DEFAULT;
+
+        String line;
+        int lineNumber = 0;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            line = line.strip();
+            if (line.isEmpty() || line.startsWith("#")) continue;
+
+            String[] fields = line.split(",");
+            if (fields.length != 7) {
+                throw new IllegalArgumentException(
+                    "Reference data line " + lineNumber + ": expected 7 fields, got " + fields.length);
+            }
+            InstrumentReference instrument;
+            try {
+                instrument = new InstrumentReference(
+                    fields[0].strip(),
+                    Double.parseDouble(fields[1].strip()),
+                    Integer.parseInt(fields[2].strip()),
+                    Double.parseDouble(fields[3].strip()),
+                    Double.parseDouble(fields[4].strip()),
+                    Integer.parseInt(fields[5].strip()),
+                    Double.parseDouble(fields[6].strip())
+                );
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException(
+                    "Reference data line " + lineNumber + ": " + e.getMessage(), e);
+            }
+            if (instrument.getLotSize() <= 0) {
+                throw new IllegalArgumentException(
+                    "Reference data line " + lineNumber + ": lot size must be positive");
+            }
+
+            if ("*".equals(instrument.getSymbol())) {
+                defaultInstrument = instrument;
+            } else {
+                instruments.put(instrument.getSymbol(), instrument);
+            }
+        }
+
+        Map<Integer, InstrumentReference> byId = new HashMap<>();
+        int maxId = -1;
+        for (InstrumentReference instrument : instruments.values()) {
+            int symbolId = symbolIds.applyAsInt(instrument.getSymbol());
+            byId.put(symbolId, instrument);
+            maxId = Math.max(maxId, symbolId);
+        }
+        InstrumentReference[] bySymbolId = new InstrumentReference[maxId + 1];
+        byId.forEach((symbolId, instrument) -> bySymbolId[symbolId] = instrument);
+
+        return new ReferenceDataTable(Map.copyOf(instruments), bySymbolId, defaultInstrument);
+    }
+
+    /**
+     * Rules for a symbol id, falling back to the default row
+     */
+    public InstrumentReference get(int symbolId) {
+        if (symbolId >= 0 && symbolId < bySymbolId.length) {
+            InstrumentReference instrument = bySymbolId[symbolId];
+            if (instrument != null) return instrument;
+        }
+        return defaultInstrument;
+    }
+
+    /**
+     * Rules for a symbol by name (lookups off the hot path)
+     */
+    public InstrumentReference get(String symbol) {
+        InstrumentReference instrument = instruments.get(symbol);
+        return instrument != null ? instrument : defaultInstrument;
+    }
+
+    public int size() {
+        return instruments.size();
+    }
+}
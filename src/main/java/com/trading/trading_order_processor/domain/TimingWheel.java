@@ -0,0 +1,193 @@
+package com.trading.trading_order_processor.domain;
+
+import java.util.function.Consumer;
+
+/**
+ * Hierarchical timing wheel for scheduling deadlines on a single thread
+ * Four levels of 64 slots: level 0 holds deadlines within 64 ticks, each
+ * higher level covers 64x the span of the one below and is cascaded down
+ * as the wheel turns. Schedule and cancel are O(1); each timer is cascaded
+ * at most once per level before it expires.
+ *
+ * Time only moves when advanceTo is called, so expiry is fully driven by
+ * the caller's clock (tick events) and is replayable. The wheel starts at
+ * the first advance; timers scheduled before that wait in a pending list.
+ */
+public class TimingWheel<T> {
+
+    private static final int LEVELS = 4;
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS; // 64
+    private static final int SLOT_MASK = SLOTS - 1;
+    private static final long MAX_SPAN = 1L << (SLOT_BITS * LEVELS); // 64^4 ticks
+
+    private final long tickMillis;
+    private final Timer<T>[][] wheel;
+
+    // Timers scheduled before the first advance
+    private final Timer<T> pending = sentinel();
+
+    // Last tick that has been fully processed
+    private long currentTick;
+    private boolean started;
+    private int size;
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public TimingWheel(long tickMillis) {
+        this.tickMillis = tickMillis;
+        this.wheel = new Timer[LEVELS][SLOTS];
+        for (Timer<T>[] level : wheel) {
+            for (int i = 0; i < SLOTS; i++) {
+                level[i] = sentinel();
+            }
+        }
+    }
+
+    /**
+     * Schedule payload to expire at the first tick at or after deadlineMillis.
+     * Deadlines already in the past expire on the next advance.
+     */
+    public Timer<T> schedule(long deadlineMillis, T payload) {
+        long deadlineTick = (deadlineMillis + tickMillis - 1) / tickMillis;
+        Timer<T> timer = new Timer<>(deadlineTick, payload);
+        if (started) {
+            insert(timer, currentTick + 1);
+        } else {
+            link(pending, timer);
+        }
+        size++;
+        return timer;
+    }
+
+    /**
+     * Remove a pending timer, no-op if it already expired or was cancelled
+     */
+    public void cancel(Timer<T> timer) {
+        if (timer == null || timer.next == null) return;
+        unlink(timer);
+        size--;
+    }
+
+    /**
+     * Turn the wheel up to nowMillis, handing every expired payload to onExpire
+     */
+    public void advanceTo(long nowMillis, Consumer<T> onExpire) {
+        long targetTick = nowMillis / tickMillis;
+
+        if (!started) {
+            // Start just before the first tick, then place pending timers
+            // so that any already due expire in this advance
+            started = true;
+            currentTick = targetTick - 1;
+            while (pending.next != pending) {
+                Timer<T> timer = pending.next;
+                unlink(timer);
+                insert(timer, targetTick);
+            }
+        }
+
+        while (currentTick < targetTick) {
+            if (size == 0) {
+                // Nothing pending, jump straight to the target
+                currentTick = targetTick;
+                return;
+            }
+            long tick = ++currentTick;
+
+            // Cascade higher levels down when the level below wraps around
+            for (int level = 1; level < LEVELS; level++) {
+                if (((tick >> (SLOT_BITS * (level - 1))) & SLOT_MASK) != 0) break;
+                cascade(level, (int) ((tick >> (SLOT_BITS * level)) & SLOT_MASK), tick);
+            }
+
+            Timer<T> head = wheel[0][(int) (tick & SLOT_MASK)];
+            while (head.next != head) {
+                Timer<T> timer = head.next;
+                unlink(timer);
+                size--;
+                onExpire.accept(timer.payload);
+            }
+        }
+    }
+
+    /**
+     * Time of the last processed tick, only meaningful once started
+     */
+    public long getCurrentTimeMillis() {
+        return currentTick * tickMillis;
+    }
+
+    public boolean isStarted() {
+        return started;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private void cascade(int level, int slot, long baseTick) {
+        Timer<T> head = wheel[level][slot];
+        while (head.next != head) {
+            Timer<T> timer = head.next;
+            unlink(timer);
+            insert(timer, baseTick);
+        }
+    }
+
+    /**
+     * Place a timer relative to baseTick, the earliest tick not yet processed
+     */
+    private void insert(Timer<T> timer, long baseTick) {
+        long expires = Math.max(timer.deadlineTick, baseTick);
+        long delta = expires - baseTick;
+
+        int level = 0;
+        while (level < LEVELS - 1 && delta >= 1L << (SLOT_BITS * (level + 1))) {
+            level++;
+        }
+        if (delta >= MAX_SPAN) {
+            // Beyond the wheel's span: park in the farthest slot, re-placed on cascade
+            expires = baseTick + MAX_SPAN - 1;
+        }
+
+        link(wheel[level][(int) ((expires >> (SLOT_BITS * level)) & SLOT_MASK)], timer);
+    }
+
+    private void link(Timer<T> head, Timer<T> timer) {
+        timer.prev = head.prev;
+        timer.next = head;
+        head.prev.next = timer;
+        head.prev = timer;
+    }
+
+    private static <T> Timer<T> sentinel() {
+        Timer<T> head = new Timer<>(0, null);
+        head.prev = head;
+        head.next = head;
+        return head;
+    }
+
+    private void unlink(Timer<T> timer) {
+        timer.prev.next = timer.next;
+        timer.next.prev = timer.prev;
+        timer.prev = null;
+        timer.next = null;
+    }
+
+    /**
+     * Handle to a scheduled deadline, kept by the owner for O(1) cancel
+     */
+    public static final class Timer<T> {
+        private final long deadlineTick;
+        private final T payload;
+        private Timer<T> prev;
+        private Timer<T> next;
+
+        private Timer(long deadlineTick, T payload) {
+            this.deadlineTick = deadlineTick;
+            this.payload = payload;
+        }
+
+        public T getPayload() { return payload; }
+    }
+}
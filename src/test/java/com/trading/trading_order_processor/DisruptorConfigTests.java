@@ -0,0 +1,115 @@
+package com.trading.trading_order_processor;
+
+import com.trading.trading_order_processor.domain.OrderEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.DefaultResourceLoader;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class DisruptorConfigTests {
+
+	private final SymbolDirectory symbols = new SymbolDirectory(64, true);
+
+	@TempDir
+	private Path dir;
+
+	private Path csv;
+
+	private ReferenceDataService referenceData;
+
+	private DisruptorConfig config;
+
+	@BeforeEach
+	void setUp() throws IOException {
+		csv = dir.resolve("instruments.csv");
+		writeInstruments("AAPL,0.05,10,100.00,5,1000,50000");
+		referenceData = new ReferenceDataService(new DefaultResourceLoader(), symbols, "file:" + csv);
+		OrderMatchingEngine engine = new OrderMatchingEngine(symbols, 10_000, 60_000, dir.resolve("books"), "");
+		config = new DisruptorConfig(engine, referenceData);
+	}
+
+	private void writeInstruments(String row) throws IOException {
+		Files.writeString(csv, """
+				# symbol,tickSize,lotSize,referencePrice,priceBandPercent,maxOrderQuantity,maxNotional
+				%s
+				""".formatted(row));
+	}
+
+	private OrderEvent order(double price, int quantity) {
+		OrderEvent event = new OrderEvent();
+		event.setOrderId("ORD-1");
+		event.setSymbol("AAPL");
+		event.setSymbolId(symbols.resolve("AAPL"));
+		event.setSide("BUY");
+		event.setPrice(price);
+		event.setQuantity(quantity);
+		event.setEventType("NEW_ORDER");
+		return event;
+	}
+
+	private OrderEvent validateAndCheckRisk(OrderEvent event) throws Exception {
+		config.orderValidator().onEvent(event, 0, true);
+		config.riskChecker().onEvent(event, 0, true);
+		return event;
+	}
+
+	@Test
+	void approvesOrderWithinAllLimits() throws Exception {
+		assertEquals("RISK_APPROVED", validateAndCheckRisk(order(100.05, 20)).getStatus());
+	}
+
+	@Test
+	void rejectsPriceOffTick() throws Exception {
+		OrderEvent event = validateAndCheckRisk(order(100.01, 20));
+
+		assertEquals("REJECTED", event.getStatus());
+		assertEquals("Price not on tick size 0.05", event.getReason());
+	}
+
+	@Test
+	void rejectsQuantityOffLot() throws Exception {
+		OrderEvent event = validateAndCheckRisk(order(100.00, 15));
+
+		assertEquals("REJECTED", event.getStatus());
+		assertEquals("Quantity not a multiple of lot size 10", event.getReason());
+	}
+
+	@Test
+	void rejectsNotionalAboveLimit() throws Exception {
+		OrderEvent event = validateAndCheckRisk(order(100.00, 1000));
+
+		assertEquals("REJECTED", event.getStatus());
+		assertEquals("Exposure limit exceeded", event.getReason());
+	}
+
+	@Test
+	void rejectsPriceOutsideBandAroundLastTrade() throws Exception {
+		referenceData.recordTrade(symbols.resolve("AAPL"), 90.00);
+
+		// 100.00 is inside the band around the reference price, not around the last trade
+		OrderEvent event = validateAndCheckRisk(order(100.00, 20));
+
+		assertEquals("REJECTED", event.getStatus());
+		assertEquals("Price outside band", event.getReason());
+	}
+
+	@Test
+	void riskChecksAgainstTheTableVersionTheValidatorSaw() throws Exception {
+		OrderEvent event = order(100.00, 20);
+		config.orderValidator().onEvent(event, 0, true);
+
+		// A reload lowering the notional limit lands between the two stages
+		writeInstruments("AAPL,0.05,10,100.00,5,1000,1000");
+		referenceData.reload();
+		config.riskChecker().onEvent(event, 0, true);
+
+		assertEquals("RISK_APPROVED", event.getStatus());
+		assertEquals("Exposure limit exceeded", validateAndCheckRisk(order(100.00, 20)).getReason());
+	}
+}
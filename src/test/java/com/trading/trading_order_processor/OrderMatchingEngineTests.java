@@ -0,0 +1,392 @@
+package com.trading.trading_order_processor;
+
+import com.trading.trading_order_processor.domain.OrderCancellation;
+import com.trading.trading_order_processor.domain.OrderEvent;
+import com.trading.trading_order_processor.domain.TradeExecution;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class OrderMatchingEngineTests {
+
+	private final SymbolDirectory symbols = new SymbolDirectory(64, true);
+
+	@TempDir
+	private Path spillDir;
+
+	private OrderMatchingEngine engine;
+
+	private int nextOrderId;
+
+	private long spillFiles() {
+		try (Stream<Path> files = Files.list(spillDir)) {
+			return files.count();
+		} catch (IOException e) {
+			return 0; // Never spilled, directory not created
+		}
+	}
+
+	@BeforeEach
+	void setUp() {
+		engine = new OrderMatchingEngine(symbols, 10_000, 60_000, spillDir, "");
+	}
+
+	private OrderEvent order(String symbol, String side, double price, int quantity) {
+		OrderEvent event = new OrderEvent();
+		event.setOrderId("ORD-" + (++nextOrderId));
+		event.setSymbol(symbol);
+		event.setSymbolId(symbols.register(symbol));
+		event.setSide(side);
+		event.setPrice(price);
+		event.setQuantity(quantity);
+		event.setTraderId("T1");
+		event.setTimestamp(System.nanoTime());
+		event.setEventType("NEW_ORDER");
+		return event;
+	}
+
+	private OrderEvent tick(long nowMillis) {
+		OrderEvent event = new OrderEvent();
+		event.setEventType("TICK");
+		event.setTickTime(nowMillis);
+		return event;
+	}
+
+	private OrderEvent uncross(String symbol) {
+		return auctionEvent(symbol, "AUCTION_UNCROSS");
+	}
+
+	private OrderEvent auctionEvent(String symbol, String eventType) {
+		OrderEvent event = new OrderEvent();
+		event.setSymbol(symbol);
+		event.setSymbolId(symbols.register(symbol));
+		event.setEventType(eventType);
+		return event;
+	}
+
+	@Test
+	void continuousMatchingFillsAtMakerPrice() {
+		engine.matchOrder(order("AAPL", "SELL", 150.0, 100));
+		OrderEvent buy = order("AAPL", "BUY", 151.0, 60);
+
+		List<TradeExecution> trades = engine.matchOrder(buy);
+
+		assertEquals(1, trades.size());
+		assertEquals(150.0, trades.get(0).getExecutionPrice());
+		assertEquals(60, trades.get(0).getExecutionQuantity());
+		assertEquals("MATCHED", buy.getStatus());
+	}
+
+	@Test
+	void auctionQueuesOrdersAndUncrossesAtVolumeMaximizingPrice() {
+		engine.startAuction(auctionEvent("AAPL", "AUCTION_START"));
+
+		assertTrue(engine.matchOrder(order("AAPL", "BUY", 102.0, 100)).isEmpty());
+		assertTrue(engine.matchOrder(order("AAPL", "BUY", 101.0, 100)).isEmpty());
+		assertTrue(engine.matchOrder(order("AAPL", "BUY", 100.0, 100)).isEmpty());
+		assertTrue(engine.matchOrder(order("AAPL", "SELL", 99.0, 50)).isEmpty());
+		assertTrue(engine.matchOrder(order("AAPL", "SELL", 100.0, 100)).isEmpty());
+		assertTrue(engine.matchOrder(order("AAPL", "SELL", 101.0, 150)).isEmpty());
+
+		OrderEvent event = uncross("AAPL");
+		List<TradeExecution> trades = engine.uncrossAuction(event);
+
+		// At 101: demand 200, supply 300 -> 200 executable, the maximum
+		int volume = trades.stream().mapToInt(TradeExecution::getExecutionQuantity).sum();
+		assertEquals(200, volume);
+		trades.forEach(trade -> assertEquals(101.0, trade.getExecutionPrice()));
+		assertEquals("MATCHED", event.getStatus());
+		assertEquals(101.0, event.getExecutionPrice());
+
+		// Continuous matching resumes after the uncross
+		List<TradeExecution> after = engine.matchOrder(order("AAPL", "BUY", 101.0, 100));
+		assertEquals(100, after.get(0).getExecutionQuantity());
+		assertEquals(101.0, after.get(0).getExecutionPrice());
+	}
+
+	@Test
+	void auctionOnOneSymbolDoesNotPauseOthers() {
+		engine.startAuction(auctionEvent("AAPL", "AUCTION_START"));
+		engine.matchOrder(order("MSFT", "SELL", 300.0, 10));
+
+		List<TradeExecution> trades = engine.matchOrder(order("MSFT", "BUY", 300.0, 10));
+
+		assertEquals(1, trades.size());
+	}
+
+	@Test
+	void uncrossWithoutCrossedBookProducesNoTrades() {
+		engine.startAuction(auctionEvent("AAPL", "AUCTION_START"));
+		engine.matchOrder(order("AAPL", "BUY", 99.0, 100));
+		engine.matchOrder(order("AAPL", "SELL", 100.0, 100));
+
+		OrderEvent event = uncross("AAPL");
+
+		assertTrue(engine.uncrossAuction(event).isEmpty());
+		assertEquals("PENDING", event.getStatus());
+	}
+
+	@Test
+	void periodicAuctionUncrossesAtEachPeriodOfTickTime() {
+		OrderMatchingEngine periodic = new OrderMatchingEngine(symbols, 10_000, 60_000, spillDir, "AAPL:1000");
+		long start = 1_600_000_000_000L;
+
+		// The first tick opens the call phase
+		assertTrue(periodic.runPeriodicAuctions(start).isEmpty());
+		assertTrue(periodic.matchOrder(order("AAPL", "SELL", 100.0, 100)).isEmpty());
+		assertTrue(periodic.matchOrder(order("AAPL", "BUY", 101.0, 60)).isEmpty());
+		assertTrue(periodic.runPeriodicAuctions(start + 990).isEmpty());
+
+		Map<Integer, List<TradeExecution>> uncrossed = periodic.runPeriodicAuctions(start + 1_000);
+		List<TradeExecution> trades = uncrossed.get(symbols.idOf("AAPL"));
+		assertEquals(1, trades.size());
+		assertEquals(60, trades.get(0).getExecutionQuantity());
+
+		// Call phase reopened straight away for the next period
+		assertTrue(periodic.matchOrder(order("AAPL", "BUY", 100.0, 40)).isEmpty());
+		trades = periodic.runPeriodicAuctions(start + 2_005).get(symbols.idOf("AAPL"));
+		assertEquals(1, trades.size());
+		assertEquals(40, trades.get(0).getExecutionQuantity());
+	}
+
+	@Test
+	void auctionStartIsRejectedWhenBookCannotBeLoaded() throws IOException {
+		OrderMatchingEngine tiered = new OrderMatchingEngine(symbols, 100, 60_000, spillDir, "");
+		long now = System.currentTimeMillis();
+		tiered.expireOrders(tick(now));
+		tiered.matchOrder(order("AAPL", "SELL", 100.0, 100));
+		tiered.expireOrders(tick(now + 60_000));
+		tiered.evictIdleBooks(now + 60_000);
+		try (Stream<Path> files = Files.list(spillDir)) {
+			for (Path file : files.toList()) {
+				Files.write(file, new byte[] {1});
+			}
+		}
+
+		OrderEvent start = auctionEvent("AAPL", "AUCTION_START");
+		tiered.startAuction(start);
+
+		assertEquals("REJECTED", start.getStatus());
+		assertEquals("Order book unavailable", start.getReason());
+	}
+
+	@Test
+	void goodTillTimeOrderExpiresOnTickAndLeavesBook() {
+		long now = System.currentTimeMillis();
+		OrderEvent gtt = order("AAPL", "BUY", 100.0, 100);
+		gtt.setTimeInForce("GTT");
+		gtt.setExpireTime(now + 1_000);
+		engine.matchOrder(gtt);
+		engine.matchOrder(order("AAPL", "BUY", 100.0, 50));
+
+		assertTrue(engine.expireOrders(tick(now + 500)).isEmpty());
+
+		// Deadlines round up to the next 10ms wheel tick, never early
+		List<OrderCancellation> cancels = engine.expireOrders(tick(now + 1_010));
+		assertEquals(1, cancels.size());
+		assertEquals(gtt.getOrderId(), cancels.get(0).getOrderId());
+		assertEquals(100, cancels.get(0).getCancelledQuantity());
+
+		// Only the good-till-cancelled order is left to trade against
+		List<TradeExecution> trades = engine.matchOrder(order("AAPL", "SELL", 100.0, 150));
+		assertEquals(1, trades.size());
+		assertEquals(50, trades.get(0).getExecutionQuantity());
+	}
+
+	@Test
+	void replayedHistoricalTicksExpireOrders() {
+		long replayStart = 1_600_000_000_000L;
+		OrderEvent gtt = order("AAPL", "BUY", 100.0, 100);
+		gtt.setExpireTime(replayStart + 1_000);
+		engine.matchOrder(gtt);
+
+		// The wheel starts at the first tick, not at wall clock
+		assertTrue(engine.expireOrders(tick(replayStart)).isEmpty());
+		assertTrue(engine.expireOrders(tick(replayStart + 990)).isEmpty());
+
+		List<OrderCancellation> cancels = engine.expireOrders(tick(replayStart + 1_000));
+		assertEquals(1, cancels.size());
+		assertEquals(gtt.getOrderId(), cancels.get(0).getOrderId());
+	}
+
+	@Test
+	void filledOrderIsRemovedFromExpiryWheel() {
+		long now = System.currentTimeMillis();
+		OrderEvent gtt = order("AAPL", "SELL", 100.0, 100);
+		gtt.setExpireTime(now + 1_000);
+		engine.matchOrder(gtt);
+		engine.matchOrder(order("AAPL", "BUY", 100.0, 100));
+
+		assertTrue(engine.expireOrders(tick(now + 2_000)).isEmpty());
+	}
+
+	@Test
+	void fullyCrossedBookIsDroppedFromHeap() {
+		engine.matchOrder(order("AAPL", "SELL", 100.0, 100));
+		engine.matchOrder(order("AAPL", "BUY", 100.0, 100));
+
+		assertEquals(0L, engine.getBookCacheStats().get("resident"));
+		assertEquals(0L, engine.getBookCacheStats().get("evictions"));
+	}
+
+	@Test
+	void idleBookIsSpilledAndReloadedInPriorityOrder() {
+		OrderMatchingEngine tiered = new OrderMatchingEngine(symbols, 100, 60_000, spillDir, "");
+		long now = System.currentTimeMillis();
+		tiered.expireOrders(tick(now));
+		OrderEvent first = order("AAPL", "SELL", 100.0, 50);
+		OrderEvent second = order("AAPL", "SELL", 100.0, 50);
+		tiered.matchOrder(first);
+		tiered.matchOrder(second);
+		tiered.matchOrder(order("AAPL", "BUY", 99.0, 10));
+
+		tiered.expireOrders(tick(now + 30_000));
+		tiered.evictIdleBooks(now + 30_000);
+		assertEquals(0L, tiered.getBookCacheStats().get("evictions"));
+
+		tiered.expireOrders(tick(now + 61_000));
+		tiered.evictIdleBooks(now + 61_000);
+		assertEquals(1L, tiered.getBookCacheStats().get("evictions"));
+		assertEquals(0L, tiered.getBookCacheStats().get("resident"));
+
+		List<TradeExecution> trades = tiered.matchOrder(order("AAPL", "BUY", 100.0, 60));
+
+		assertEquals(1L, tiered.getBookCacheStats().get("reloads"));
+		assertEquals(2, trades.size());
+		assertEquals(first.getOrderId(), trades.get(0).getSellOrderId());
+		assertEquals(50, trades.get(0).getExecutionQuantity());
+		assertEquals(second.getOrderId(), trades.get(1).getSellOrderId());
+		assertEquals(10, trades.get(1).getExecutionQuantity());
+	}
+
+	@Test
+	void residentBooksAreCappedByEvictingLeastRecentlyUsed() {
+		OrderMatchingEngine tiered = new OrderMatchingEngine(symbols, 2, 60_000, spillDir, "");
+		tiered.matchOrder(order("AAPL", "BUY", 100.0, 10));
+		tiered.matchOrder(order("MSFT", "BUY", 100.0, 10));
+		tiered.matchOrder(order("AAPL", "BUY", 100.0, 10));
+		tiered.matchOrder(order("GOOG", "BUY", 100.0, 10));
+
+		assertEquals(2L, tiered.getBookCacheStats().get("resident"));
+		assertEquals(1L, tiered.getBookCacheStats().get("evicted"));
+
+		// MSFT was least recently used and comes back with its order intact
+		List<TradeExecution> trades = tiered.matchOrder(order("MSFT", "SELL", 100.0, 10));
+		assertEquals(1, trades.size());
+	}
+
+	@Test
+	void orderExpiringWhileBookIsOnDiskIsReportedAndNeverTrades() {
+		OrderMatchingEngine tiered = new OrderMatchingEngine(symbols, 100, 60_000, spillDir, "");
+		long now = System.currentTimeMillis();
+		tiered.expireOrders(tick(now));
+		OrderEvent gtt = order("AAPL", "SELL", 100.0, 100);
+		gtt.setExpireTime(now + 120_000);
+		tiered.matchOrder(gtt);
+
+		tiered.expireOrders(tick(now + 60_000));
+		tiered.evictIdleBooks(now + 60_000);
+		assertEquals(1L, tiered.getBookCacheStats().get("evictions"));
+
+		List<OrderCancellation> cancels = tiered.expireOrders(tick(now + 121_000));
+		assertEquals(1, cancels.size());
+		assertEquals(gtt.getOrderId(), cancels.get(0).getOrderId());
+		assertEquals("AAPL", cancels.get(0).getSymbol());
+
+		// Nothing live left on disk: the file and the evicted entry are gone
+		assertEquals(0L, tiered.getBookCacheStats().get("evicted"));
+		assertEquals(0L, spillFiles());
+
+		tiered.expireOrders(tick(now + 300_000));
+		assertTrue(tiered.matchOrder(order("AAPL", "BUY", 100.0, 100)).isEmpty());
+		assertEquals(0L, tiered.getBookCacheStats().get("reloads"));
+	}
+
+	@Test
+	void evictedBookExpiresDueOrdersFromFileAndKeepsTheRest() {
+		OrderMatchingEngine tiered = new OrderMatchingEngine(symbols, 100, 60_000, spillDir, "");
+		long now = System.currentTimeMillis();
+		tiered.expireOrders(tick(now));
+		OrderEvent early = order("AAPL", "SELL", 100.0, 100);
+		early.setExpireTime(now + 120_000);
+		OrderEvent late = order("AAPL", "SELL", 100.0, 100);
+		late.setExpireTime(now + 180_000);
+		OrderEvent gtc = order("AAPL", "SELL", 101.0, 100);
+		tiered.matchOrder(early);
+		tiered.matchOrder(late);
+		tiered.matchOrder(gtc);
+
+		tiered.expireOrders(tick(now + 60_000));
+		tiered.evictIdleBooks(now + 60_000);
+
+		List<OrderCancellation> cancels = tiered.expireOrders(tick(now + 121_000));
+		assertEquals(1, cancels.size());
+		assertEquals(early.getOrderId(), cancels.get(0).getOrderId());
+		assertEquals(1L, tiered.getBookCacheStats().get("evicted"));
+
+		cancels = tiered.expireOrders(tick(now + 181_000));
+		assertEquals(1, cancels.size());
+		assertEquals(late.getOrderId(), cancels.get(0).getOrderId());
+		assertEquals(1L, tiered.getBookCacheStats().get("evicted"));
+		assertEquals(1L, spillFiles());
+
+		// Only the good-till-cancelled order comes back
+		List<TradeExecution> trades = tiered.matchOrder(order("AAPL", "BUY", 101.0, 300));
+		assertEquals(1, trades.size());
+		assertEquals(gtc.getOrderId(), trades.get(0).getSellOrderId());
+		assertEquals(0L, spillFiles());
+	}
+
+	@Test
+	void expiryTimerFollowsOrderThroughEvictionAndReload() {
+		OrderMatchingEngine tiered = new OrderMatchingEngine(symbols, 100, 60_000, spillDir, "");
+		long now = System.currentTimeMillis();
+		tiered.expireOrders(tick(now));
+		OrderEvent gtt = order("AAPL", "SELL", 100.0, 100);
+		gtt.setExpireTime(now + 120_000);
+		tiered.matchOrder(gtt);
+
+		tiered.expireOrders(tick(now + 60_000));
+		tiered.evictIdleBooks(now + 60_000);
+		tiered.expireOrders(tick(now + 90_000));
+		tiered.matchOrder(order("AAPL", "BUY", 99.0, 10)); // Reloads, no cross
+
+		List<OrderCancellation> cancels = tiered.expireOrders(tick(now + 121_000));
+		assertEquals(1, cancels.size());
+		assertEquals(gtt.getOrderId(), cancels.get(0).getOrderId());
+		assertTrue(tiered.matchOrder(order("AAPL", "BUY", 100.0, 100)).isEmpty());
+	}
+
+	@Test
+	void unreadableEvictedBookRejectsOrderAndStaysEvicted() throws IOException {
+		OrderMatchingEngine tiered = new OrderMatchingEngine(symbols, 100, 60_000, spillDir, "");
+		long now = System.currentTimeMillis();
+		tiered.expireOrders(tick(now));
+		tiered.matchOrder(order("AAPL", "SELL", 100.0, 100));
+		tiered.expireOrders(tick(now + 60_000));
+		tiered.evictIdleBooks(now + 60_000);
+
+		try (Stream<Path> files = Files.list(spillDir)) {
+			for (Path file : files.toList()) {
+				Files.write(file, new byte[] {1});
+			}
+		}
+
+		OrderEvent buy = order("AAPL", "BUY", 100.0, 100);
+		assertTrue(tiered.matchOrder(buy).isEmpty());
+		assertEquals("REJECTED", buy.getStatus());
+		assertEquals("Order book unavailable", buy.getReason());
+		assertEquals(1L, tiered.getBookCacheStats().get("evicted"));
+		assertEquals(0L, tiered.getBookCacheStats().get("resident"));
+	}
+}
@@ -0,0 +1,72 @@
+package com.trading.trading_order_processor;
+
+import com.trading.trading_order_processor.domain.InstrumentReference;
+import com.trading.trading_order_processor.domain.ReferenceDataTable;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ReferenceDataTableTests {
+
+	private static final SymbolDirectory symbols = new SymbolDirectory(64, true);
+
+	private ReferenceDataTable parse(String csv) throws IOException {
+		return ReferenceDataTable.parse(new BufferedReader(new StringReader(csv)), symbols::register);
+	}
+
+	@Test
+	void listedSymbolsUseTheirOwnRules() throws IOException {
+		ReferenceDataTable table = parse("""
+				# symbol,tickSize,lotSize,referencePrice,priceBandPercent,maxOrderQuantity,maxNotional
+				AAPL,0.05,10,150.00,5,1000,500000
+				""");
+
+		InstrumentReference aapl = table.get("AAPL");
+		assertTrue(aapl.isOnTick(150.05));
+		assertFalse(aapl.isOnTick(150.01));
+		assertTrue(aapl.isValidLot(20));
+		assertFalse(aapl.isValidLot(15));
+		assertEquals(1000, aapl.getMaxOrderQuantity());
+	}
+
+	@Test
+	void priceBandAnchorsOnLastTradeThenReferencePrice() throws IOException {
+		InstrumentReference aapl = parse("AAPL,0.01,1,100.00,5,1000,500000").get("AAPL");
+
+		assertTrue(aapl.isWithinBand(104.99, 0));
+		assertFalse(aapl.isWithinBand(106.00, 0));
+		assertTrue(aapl.isWithinBand(106.00, 104.00));
+	}
+
+	@Test
+	void unlistedSymbolsFallBackToDefaultRow() throws IOException {
+		ReferenceDataTable builtIn = parse("AAPL,0.01,1,100.00,5,1000,500000");
+		assertEquals(1_000_000.0, builtIn.get("MSFT").getMaxNotional());
+		assertTrue(builtIn.get("MSFT").isOnTick(150.505));
+
+		ReferenceDataTable withDefault = parse("*,0.01,100,0,0,5000,250000");
+		assertEquals(250_000.0, withDefault.get("MSFT").getMaxNotional());
+		assertFalse(withDefault.get("MSFT").isValidLot(50));
+	}
+
+	@Test
+	void malformedLineIsRejected() {
+		assertThrows(IllegalArgumentException.class, () -> parse("AAPL,0.01,1"));
+		assertThrows(IllegalArgumentException.class, () -> parse("AAPL,0.01,x,100,5,1000,500000"));
+	}
+
+	@Test
+	void lookupBySymbolIdMatchesLookupByName() throws IOException {
+		ReferenceDataTable table = parse("TSLA,0.05,1,200.00,5,1000,500000");
+
+		assertEquals(table.get("TSLA"), table.get(symbols.idOf("TSLA")));
+		assertEquals(table.get("UNLISTED"), table.get(symbols.register("UNLISTED")));
+	}
+}
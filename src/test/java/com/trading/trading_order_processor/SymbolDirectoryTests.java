@@ -0,0 +1,51 @@
+package com.trading.trading_order_processor;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SymbolDirectoryTests {
+
+	@Test
+	void assignsDenseStableIds() {
+		SymbolDirectory symbols = new SymbolDirectory(16, true);
+
+		assertEquals(0, symbols.resolve("AAPL"));
+		assertEquals(1, symbols.resolve("MSFT"));
+		assertEquals(0, symbols.resolve("AAPL"));
+		assertEquals("MSFT", symbols.symbolOf(1));
+		assertEquals(2, symbols.size());
+	}
+
+	@Test
+	void rejectsUnknownSymbolsWhenRegistrationIsClosed() {
+		SymbolDirectory symbols = new SymbolDirectory(16, false);
+		symbols.register("AAPL");
+
+		assertEquals(0, symbols.resolve("AAPL"));
+		assertThrows(IllegalArgumentException.class, () -> symbols.resolve("MSFT"));
+		assertEquals(-1, symbols.idOf("MSFT"));
+	}
+
+	@Test
+	void rejectsSymbolsBeyondCapacity() {
+		SymbolDirectory symbols = new SymbolDirectory(1, true);
+		symbols.resolve("AAPL");
+
+		assertThrows(IllegalStateException.class, () -> symbols.resolve("MSFT"));
+		assertThrows(IllegalStateException.class, () -> symbols.resolve("GOOG"));
+		assertEquals(1, symbols.size());
+	}
+
+	@Test
+	void retiredSymbolsAreRejectedEvenWhenRegistrationIsOpen() {
+		SymbolDirectory symbols = new SymbolDirectory(16, true);
+		int id = symbols.register("__WARMUP-0");
+		symbols.retire("__WARMUP-0");
+
+		assertThrows(IllegalArgumentException.class, () -> symbols.resolve("__WARMUP-0"));
+		assertEquals(id, symbols.idOf("__WARMUP-0"));
+		assertEquals(1, symbols.size());
+	}
+}
@@ -0,0 +1,93 @@
+package com.trading.trading_order_processor;
+
+import com.trading.trading_order_processor.domain.TimingWheel;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TimingWheelTests {
+
+	private static final long START = 1_000_000L;
+
+	private final TimingWheel<String> wheel = new TimingWheel<>(10);
+
+	private final List<String> expired = new ArrayList<>();
+
+	@BeforeEach
+	void startWheel() {
+		wheel.advanceTo(START, expired::add);
+	}
+
+	@Test
+	void expiresAtDeadlineAndNotBefore() {
+		wheel.schedule(START + 50, "A");
+
+		wheel.advanceTo(START + 40, expired::add);
+		assertTrue(expired.isEmpty());
+
+		wheel.advanceTo(START + 50, expired::add);
+		assertEquals(List.of("A"), expired);
+		assertEquals(0, wheel.size());
+	}
+
+	@Test
+	void cascadesDeadlinesFromEveryLevel() {
+		long[] offsets = {30, 700, 45_000, 3_000_000, 200_000_000, 2_000_000_000L};
+		for (long offset : offsets) {
+			wheel.schedule(START + offset, String.valueOf(offset));
+		}
+
+		for (long offset : offsets) {
+			wheel.advanceTo(START + offset - 10, expired::add);
+			assertEquals(List.of(), expired, "early expiry before " + offset);
+
+			wheel.advanceTo(START + offset, expired::add);
+			assertEquals(List.of(String.valueOf(offset)), expired);
+			expired.clear();
+		}
+	}
+
+	@Test
+	void cancelledTimersNeverFire() {
+		TimingWheel.Timer<String> timer = wheel.schedule(START + 5_000, "A");
+		wheel.schedule(START + 5_000, "B");
+
+		wheel.cancel(timer);
+		wheel.cancel(timer);
+		wheel.advanceTo(START + 10_000, expired::add);
+
+		assertEquals(List.of("B"), expired);
+	}
+
+	@Test
+	void pastDeadlineExpiresOnNextAdvance() {
+		wheel.advanceTo(START + 1_000, expired::add);
+		wheel.schedule(START, "A");
+
+		wheel.advanceTo(START + 1_010, expired::add);
+
+		assertEquals(List.of("A"), expired);
+	}
+
+	@Test
+	void startsAtFirstAdvanceSoHistoricalTimesReplay() {
+		long replayStart = 1_600_000_000_000L;
+		TimingWheel<String> replay = new TimingWheel<>(10);
+		replay.schedule(replayStart - 100, "PAST");
+		TimingWheel.Timer<String> cancelled = replay.schedule(replayStart + 20, "CANCELLED");
+		replay.schedule(replayStart + 50, "A");
+		replay.cancel(cancelled);
+
+		replay.advanceTo(replayStart, expired::add);
+		assertEquals(List.of("PAST"), expired);
+
+		replay.advanceTo(replayStart + 50, expired::add);
+		assertEquals(List.of("PAST", "A"), expired);
+		assertEquals(0, replay.size());
+	}
+}
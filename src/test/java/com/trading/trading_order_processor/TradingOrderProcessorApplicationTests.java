@@ -1,13 +1,67 @@
 package com.trading.trading_order_processor;
 
+import com.trading.trading_order_processor.domain.OrderRequest;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.http.HttpStatus;
 
-@SpringBootTest
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(properties = "trading.warmup.orders=2000")
 class TradingOrderProcessorApplicationTests {
 
+	@Autowired
+	private ApplicationContext context;
+
+	@Autowired
+	private OrderController orderController;
+
+	@Autowired
+	private WarmupRunner warmupRunner;
+
+	private OrderRequest request(String symbol) {
+		OrderRequest request = new OrderRequest();
+		request.setSymbol(symbol);
+		request.setSide("BUY");
+		request.setPrice(1.0);
+		request.setQuantity(1);
+		request.setTraderId("T1");
+		return request;
+	}
+
 	@Test
 	void contextLoads() {
 	}
 
+	@Test
+	void warmupOrdersCrossAndTrade() {
+		assertTrue(warmupRunner.getWarmupTrades() > 0);
+	}
+
+	@Test
+	void shadowSymbolsAreRejectedAfterWarmup() {
+		assertEquals(HttpStatus.BAD_REQUEST,
+				orderController.submitOrder(request(WarmupRunner.SHADOW_PREFIX + "0")).getStatusCode());
+	}
+
+	@Test
+	void clientOrdersAreRefusedUntilReady() {
+		AvailabilityChangeEvent.publish(context, ReadinessState.REFUSING_TRAFFIC);
+		try {
+			assertEquals(HttpStatus.SERVICE_UNAVAILABLE,
+					orderController.submitOrder(request("AAPL")).getStatusCode());
+			// Shadow symbols get no pass either, only the runner's thread does
+			assertEquals(HttpStatus.SERVICE_UNAVAILABLE,
+					orderController.submitOrder(request(WarmupRunner.SHADOW_PREFIX + "0")).getStatusCode());
+		} finally {
+			AvailabilityChangeEvent.publish(context, ReadinessState.ACCEPTING_TRAFFIC);
+		}
+		assertEquals(HttpStatus.OK, orderController.submitOrder(request("AAPL")).getStatusCode());
+	}
+
 }